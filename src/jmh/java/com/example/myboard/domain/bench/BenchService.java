@@ -0,0 +1,11 @@
+package com.example.myboard.domain.bench;
+
+/**
+ * LogAop 의 allService() 포인트컷에 걸리도록 domain 패키지에 둔 벤치마크용 서비스
+ */
+public class BenchService {
+
+    public int call(int value) {
+        return value + 1;
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.myboard.domain.comment;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하위 댓글 조회, 깊이 조회 비용 : parent_id 만 따라가기(adjacency) vs 계층 색인(closure)
+ * 스레드는 최상위 댓글 하나에 depth 단계의 대댓글이 달려 있고, 단계마다 대댓글이 FANOUT 개씩 있다.
+ * adjacency 는 childList 를 지연 로딩하는 것처럼 댓글마다 자식 조회 쿼리를 한 번씩 실행한다.
+ *
+ * 메모리 H2 라 쿼리 한 번의 왕복 비용이 작으므로, tcp 서버에서는 adjacency 쪽이 훨씬 더 느려진다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CommentClosureBenchmark {
+
+    private static final int FANOUT = 20;
+
+    @Param({"1", "5", "50"})
+    private int depth;
+
+    private Connection connection;
+    private PreparedStatement childrenOf;
+    private PreparedStatement parentOf;
+    private PreparedStatement descendantsOf;
+    private PreparedStatement depthOf;
+
+    private long rootId;
+    private long deepestId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:comment_closure_bench_" + depth + ";DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table comment (comment_id bigint primary key, parent_id bigint)");
+            statement.execute("create index idx_comment_parent on comment (parent_id)");
+            statement.execute("create table comment_closure (ancestor_id bigint, descendant_id bigint, depth int, primary key (ancestor_id, descendant_id))");
+            statement.execute("create index idx_comment_closure_descendant on comment_closure (descendant_id, depth)");
+        }
+
+        // 최상위 댓글 -> (단계마다 FANOUT 개, 그 중 첫 번째에 다음 단계가 달림)
+        long nextId = 1;
+        rootId = nextId++;
+        insert(rootId, null);
+        long parentId = rootId;
+        for (int level = 0; level < depth; level++) {
+            long firstChild = nextId;
+            for (int i = 0; i < FANOUT; i++) {
+                insert(nextId++, parentId);
+            }
+            parentId = firstChild;
+        }
+        deepestId = parentId;
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("insert into comment_closure select comment_id, comment_id, 0 from comment");
+            for (int d = 0; ; d++) {
+                int inserted = statement.executeUpdate("insert into comment_closure" +
+                        " select cc.ancestor_id, c.comment_id, cc.depth + 1 from comment_closure cc" +
+                        " join comment c on c.parent_id = cc.descendant_id where cc.depth = " + d);
+                if (inserted == 0) {
+                    break;
+                }
+            }
+        }
+
+        childrenOf = connection.prepareStatement("select comment_id from comment where parent_id = ?");
+        parentOf = connection.prepareStatement("select parent_id from comment where comment_id = ?");
+        descendantsOf = connection.prepareStatement("select descendant_id from comment_closure where ancestor_id = ?");
+        depthOf = connection.prepareStatement("select max(depth) from comment_closure where descendant_id = ?");
+    }
+
+    private void insert(long id, Long parentId) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("insert into comment values (?, ?)")) {
+            ps.setLong(1, id);
+            if (parentId == null) {
+                ps.setNull(2, java.sql.Types.BIGINT);
+            } else {
+                ps.setLong(2, parentId);
+            }
+            ps.executeUpdate();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Long> adjacencySubtree() throws SQLException {
+        List<Long> result = new ArrayList<>();
+        Deque<Long> queue = new ArrayDeque<>();
+        queue.add(rootId);
+        while (!queue.isEmpty()) {
+            long id = queue.poll();
+            result.add(id);
+            childrenOf.setLong(1, id);
+            try (ResultSet rs = childrenOf.executeQuery()) {
+                while (rs.next()) {
+                    queue.add(rs.getLong(1));
+                }
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Long> closureSubtree() throws SQLException {
+        List<Long> result = new ArrayList<>();
+        descendantsOf.setLong(1, rootId);
+        try (ResultSet rs = descendantsOf.executeQuery()) {
+            while (rs.next()) {
+                result.add(rs.getLong(1));
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int adjacencyDepth() throws SQLException {
+        int result = 0;
+        long id = deepestId;
+        while (true) {
+            parentOf.setLong(1, id);
+            try (ResultSet rs = parentOf.executeQuery()) {
+                rs.next();
+                long parentId = rs.getLong(1);
+                if (rs.wasNull()) {
+                    return result;
+                }
+                id = parentId;
+                result++;
+            }
+        }
+    }
+
+    @Benchmark
+    public int closureDepth() throws SQLException {
+        depthOf.setLong(1, deepestId);
+        try (ResultSet rs = depthOf.executeQuery()) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.myboard.domain.comment;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 insert 처리량 (결과의 ops/s 가 초당 저장한 행 수)
+ * identity : 행마다 insert 후 생성된 키를 읽음 (batch 불가, 기존 방식)
+ * sequencePooled : 시퀀스를 50 개씩 받아두고 batchSize 개씩 executeBatch (hibernate.jdbc.batch_size)
+ *
+ * 메모리 H2 에 직접 JDBC 로 쓰므로 왕복 비용이 거의 없다. tcp 서버에서는 batchSize 에 따른 차이가 훨씬 커진다.
+ * identity 는 batchSize 와 무관하다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CommentInsertBenchmark {
+
+    private static final int ROWS = 5000;
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Param({"1", "50", "500"})
+    private int batchSize;
+
+    private Connection connection;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:comment_insert_bench;DB_CLOSE_DELAY=-1", "sa", "");
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists comment_identity (comment_id bigint generated by default as identity primary key, post_id bigint, content varchar(255))");
+            statement.execute("create table if not exists comment_sequence (comment_id bigint primary key, post_id bigint, content varchar(255))");
+            statement.execute("create sequence if not exists comment_bench_seq start with 1 increment by " + ALLOCATION_SIZE);
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("truncate table comment_identity");
+            statement.execute("truncate table comment_sequence");
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identity() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement ps = connection.prepareStatement(
+                "insert into comment_identity (post_id, content) values (?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                ps.setLong(1, 1L);
+                ps.setString(2, "댓글");
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long sequencePooled() throws SQLException {
+        long nextId = 0;
+        long hi = 0;
+        try (PreparedStatement ps = connection.prepareStatement(
+                "insert into comment_sequence (comment_id, post_id, content) values (?, ?, ?)");
+             PreparedStatement sequence = connection.prepareStatement("select next value for comment_bench_seq")) {
+            for (int i = 0; i < ROWS; i++) {
+                if (nextId == hi) {
+                    try (ResultSet rs = sequence.executeQuery()) {
+                        rs.next();
+                        hi = rs.getLong(1) + ALLOCATION_SIZE;
+                        nextId = hi - ALLOCATION_SIZE;
+                    }
+                }
+
+                ps.setLong(1, nextId++);
+                ps.setLong(2, 1L);
+                ps.setString(3, "댓글");
+                ps.addBatch();
+                if ((i + 1) % batchSize == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        connection.commit();
+        return nextId;
+    }
+}
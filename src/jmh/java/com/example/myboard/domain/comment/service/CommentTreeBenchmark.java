@@ -0,0 +1,123 @@
+package com.example.myboard.domain.comment.service;
+
+import com.example.myboard.domain.comment.Comment;
+import com.example.myboard.domain.comment.dto.CommentFlatDto;
+import com.example.myboard.domain.comment.dto.CommentTreeDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 트리 조립 비용 (-prof gc 로 할당량 비교)
+ * lazyTraversal : 엔티티의 childList 를 재귀로 따라가며 DTO 로 변환 (기존 방식)
+ * boxedMap : 같은 평면 조립을 HashMap<Long, Integer> 로
+ * primitiveMap : CommentTreeBuilder (LongIntHashMap)
+ *
+ * lazyTraversal 은 childList 가 이미 초기화된 상태라 부모마다 나가는 쿼리(N+1) 비용은 빠져 있다.
+ * 실제로는 여기에 부모 수만큼의 SELECT 가 더해지고, 이는 /monitor/slow-requests 의 SQL 횟수로 확인한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class CommentTreeBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private List<CommentFlatDto> rows;
+    private List<Comment> rootEntities;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rows = new ArrayList<>(size);
+        rootEntities = new ArrayList<>();
+        Comment[] entities = new Comment[size];
+
+        for (int i = 0; i < size; i++) {
+            long id = i + 1;
+            // 10% 는 최상위 댓글, 나머지는 앞의 댓글 중 하나에 대댓글
+            Long parentId = (i == 0 || random.nextInt(10) == 0) ? null : (long) (random.nextInt(i) + 1);
+            rows.add(new CommentFlatDto(id, parentId, "댓글" + id, false, null, null));
+
+            Comment comment = Comment.builder().content("댓글" + id).build();
+            if (parentId == null) {
+                rootEntities.add(comment);
+            } else {
+                comment.confirmParent(entities[(int) (parentId - 1)]);
+            }
+            entities[i] = comment;
+        }
+    }
+
+    @Benchmark
+    public List<CommentTreeDto> lazyTraversal() {
+        List<CommentTreeDto> roots = new ArrayList<>(rootEntities.size());
+        for (Comment root : rootEntities) {
+            roots.add(toDto(root));
+        }
+        return roots;
+    }
+
+    @Benchmark
+    public List<CommentTreeDto> boxedMap() {
+        int n = rows.size();
+        Map<Long, Integer> indexById = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            indexById.put(rows.get(i).getCommentId(), i);
+        }
+
+        List<List<CommentTreeDto>> children = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            children.add(null);
+        }
+        CommentTreeDto[] built = new CommentTreeDto[n];
+        List<CommentTreeDto> roots = new ArrayList<>();
+
+        // 입력이 id 순이고 자식 id 가 부모보다 크다는 가정으로 역순 조립
+        for (int i = n - 1; i >= 0; i--) {
+            List<CommentTreeDto> mine = children.get(i);
+            if (mine == null) {
+                mine = Collections.emptyList();
+            } else {
+                Collections.reverse(mine);
+            }
+            built[i] = new CommentTreeDto(rows.get(i), Collections.unmodifiableList(mine));
+
+            Long parentId = rows.get(i).getParentId();
+            Integer p = parentId == null ? null : indexById.get(parentId);
+            if (p == null) {
+                roots.add(built[i]);
+            } else {
+                if (children.get(p) == null) {
+                    children.set(p, new ArrayList<>());
+                }
+                children.get(p).add(built[i]);
+            }
+        }
+        Collections.reverse(roots);
+        return roots;
+    }
+
+    @Benchmark
+    public List<CommentTreeDto> primitiveMap() {
+        return CommentTreeBuilder.build(rows);
+    }
+
+    private CommentTreeDto toDto(Comment comment) {
+        List<Comment> childList = comment.getChildList();
+        CommentTreeDto[] children = new CommentTreeDto[childList.size()];
+        for (int i = 0; i < children.length; i++) {
+            children[i] = toDto(childList.get(i));
+        }
+        CommentFlatDto row = new CommentFlatDto(comment.getId(), null, comment.getContent(), comment.isRemoved(), null, null);
+        return new CommentTreeDto(row, Collections.unmodifiableList(Arrays.asList(children)));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.myboard.global.aop;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.myboard.domain.bench.BenchService;
+import com.example.myboard.global.log.AsyncLogSink;
+import com.example.myboard.global.log.FastLogTrace;
+import com.example.myboard.global.log.LogTrace;
+import com.example.myboard.global.log.ThreadLocalLogTrace;
+import com.example.myboard.global.monitor.MethodMetricsRegistry;
+import com.example.myboard.global.monitor.trace.RequestTraceRecorder;
+import com.example.myboard.global.monitor.trace.SlowRequestStore;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LogAop 를 거치는 서비스 호출 한 번의 비용 (-prof gc 로 호출당 할당량도 함께 측정)
+ * none : 프록시 없이 직접 호출
+ * threadLocal : 기존 ThreadLocalLogTrace
+ * fast : FastLogTrace, 모든 요청 추적
+ * fastSampled : FastLogTrace, 1% 만 추적
+ * fastOff : FastLogTrace, INFO 로그가 꺼져 있을 때
+ * fastAsync : FastLogTrace, 모든 요청 추적 + AsyncLogSink 로 백그라운드 기록 (가득 차면 DROP)
+ * 추적되는 호출은 콘솔 appender 비용이 포함되므로 로그 출력을 줄여서(> /dev/null) 실행한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class LogAopBenchmark {
+
+    @Param({"none", "threadLocal", "fast", "fastSampled", "fastOff", "fastAsync"})
+    private String mode;
+
+    private AsyncLogSink asyncLogSink;
+    private BenchService service;
+    private int value;
+
+    @Setup
+    public void setUp() {
+        Logger traceLogger = (Logger) LoggerFactory.getLogger(FastLogTrace.class);
+        traceLogger.setLevel("fastOff".equals(mode) ? Level.WARN : Level.INFO);
+
+        asyncLogSink = "fastAsync".equals(mode)
+                ? new AsyncLogSink(true, 65536, 256, AsyncLogSink.Overflow.DROP)
+                : AsyncLogSink.synchronous();
+        asyncLogSink.start();
+
+        BenchService target = new BenchService();
+        if ("none".equals(mode)) {
+            service = target;
+            return;
+        }
+
+        LogTrace logTrace;
+        switch (mode) {
+            case "threadLocal":
+                logTrace = new ThreadLocalLogTrace(asyncLogSink);
+                break;
+            case "fastSampled":
+                logTrace = new FastLogTrace(0.01, asyncLogSink);
+                break;
+            default:
+                logTrace = new FastLogTrace(1.0, asyncLogSink);
+        }
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new LogAop(logTrace, new MethodMetricsRegistry(false, 0, 0),
+                new RequestTraceRecorder(false, 0, 0, 0, RequestTraceRecorder.BudgetMode.WARN, new SlowRequestStore(1), asyncLogSink)));
+        service = factory.getProxy();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        asyncLogSink.shutdown();
+    }
+
+    @Benchmark
+    public int call() {
+        return service.call(value++);
+    }
+}
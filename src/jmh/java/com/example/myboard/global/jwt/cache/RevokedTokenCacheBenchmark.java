@@ -0,0 +1,50 @@
+package com.example.myboard.global.jwt.cache;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationProcessingFilter 가 요청마다 부르는 폐기 여부 확인 비용
+ * 폐기되지 않은 jti 는 Bloom filter 에서 끝나므로 수 ns 여야 한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RevokedTokenCacheBenchmark {
+
+    @Param({"0", "10000", "100000"})
+    private int revokedCount;
+
+    private RevokedTokenCache revokedTokenCache;
+    private String[] activeJtis;
+    private String revokedJti;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        revokedTokenCache = new RevokedTokenCache(100_000, 0.01);
+
+        long expiresAt = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+        for (int i = 0; i < revokedCount; i++) {
+            revokedJti = UUID.randomUUID().toString();
+            revokedTokenCache.add(revokedJti, expiresAt);
+        }
+
+        activeJtis = new String[1024];
+        for (int i = 0; i < activeJtis.length; i++) {
+            activeJtis[i] = UUID.randomUUID().toString();
+        }
+    }
+
+    @Benchmark
+    public boolean notRevoked() {
+        return revokedTokenCache.isRevoked(activeJtis[index++ & (activeJtis.length - 1)]);
+    }
+
+    @Benchmark
+    public boolean revoked() {
+        return revokedTokenCache.isRevoked(revokedJti);
+    }
+}
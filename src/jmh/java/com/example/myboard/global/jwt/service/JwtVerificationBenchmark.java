@@ -0,0 +1,56 @@
+package com.example.myboard.global.jwt.service;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.example.myboard.global.jwt.dto.TokenClaims;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나당 AccessToken 검증 비용 비교 (-prof gc 로 할당량도 함께 측정)
+ * legacy : isTokenValid + extractUsername -> Algorithm, JWTVerifier 2번 생성 + HMAC 2번
+ * singlePass : 기동시 만든 Verifier 로 verifyAccessToken 한 번
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "watosyscallgatetelavosggodariwatosyscallgatetelavosggodariwatosyscallgatetelavosggodari";
+
+    private JwtServiceImpl jwtService;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtService = new JwtServiceImpl(null, null, null);
+        setField("secret", SECRET);
+        setField("accessTokenValidityInSeconds", 3600L);
+        setField("refreshTokenValidityInSeconds", 3600L);
+        setField("profileAlgorithm", "HS512");
+        setField("previousAlgorithm", "HS512");
+        setField("previousAcceptedUntil", "");
+        jwtService.init();
+
+        accessToken = jwtService.createAccessToken("username");
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field field = JwtServiceImpl.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtService, value);
+    }
+
+    @Benchmark
+    public String legacy() {
+        JWT.require(Algorithm.HMAC512(SECRET)).build().verify(accessToken);
+        return JWT.require(Algorithm.HMAC512(SECRET)).build().verify(accessToken).getClaim("username").asString();
+    }
+
+    @Benchmark
+    public String singlePass() {
+        return jwtService.verifyAccessToken(accessToken).map(TokenClaims::getUsername).orElse(null);
+    }
+}
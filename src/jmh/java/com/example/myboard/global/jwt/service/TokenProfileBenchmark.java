@@ -0,0 +1,49 @@
+package com.example.myboard.global.jwt.service;
+
+import com.example.myboard.domain.member.role.Role;
+import com.example.myboard.global.jwt.dto.TokenClaims;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 형식별 발급(sign), 검증(verify) 처리량
+ * 토큰 크기(Authorization 헤더에 실리는 byte 수) 는 @Setup 에서 출력한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class TokenProfileBenchmark {
+
+    private static final String SECRET = "watosyscallgatetelavosggodariwatosyscallgatetelavosggodariwatosyscallgatetelavosggodari";
+
+    @Param({"HS512", "HS512/compact", "HS256", "HS256/compact", "HS256/binary"})
+    private String profileName;
+
+    private TokenProfile profile;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        String[] parts = profileName.split("/");
+        boolean compact = parts.length > 1;
+        boolean binary = compact && "binary".equals(parts[1]);
+        profile = new TokenProfile(SECRET, parts[0], compact, binary);
+
+        accessToken = sign();
+        System.out.printf("%n[%s] stateless AccessToken size : %d bytes%n",
+                profile, accessToken.getBytes(StandardCharsets.US_ASCII).length);
+    }
+
+    @Benchmark
+    public String sign() {
+        long now = System.currentTimeMillis();
+        return profile.createAccessToken(1234L, "username1234", Role.USER, now, now + 3_600_000L);
+    }
+
+    @Benchmark
+    public TokenClaims verify() {
+        return profile.verifyAccessToken(accessToken);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.myboard.global.login.filter;
+
+import com.example.myboard.global.login.dto.LoginCredentials;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 body 파싱 비용 (-prof gc 로 요청당 할당량 비교)
+ * legacy : String 으로 복사 -> Map 으로 역직렬화 (기존 방식)
+ * streaming : 입력 스트림에서 바로 username, password 만 읽기
+ * oversized 는 1MB body 를 보냈을 때, streaming 은 최대 크기에서 바로 멈춘다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class LoginRequestReaderBenchmark {
+
+    private ObjectMapper objectMapper;
+    private LoginRequestReader loginRequestReader;
+
+    private byte[] body;
+    private byte[] oversizedBody;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        loginRequestReader = new LoginRequestReader(objectMapper.getFactory(), 2048);
+
+        body = "{\"username\":\"username1234\",\"password\":\"password1234!@#$\"}".getBytes(StandardCharsets.UTF_8);
+
+        StringBuilder padding = new StringBuilder();
+        for (int i = 0; i < 1024 * 1024; i++) {
+            padding.append('a');
+        }
+        oversizedBody = ("{\"username\":\"username1234\",\"password\":\"" + padding + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String legacy() throws IOException {
+        return legacyRead(body);
+    }
+
+    @Benchmark
+    public String streaming() throws IOException {
+        LoginCredentials credentials = loginRequestReader.read(new ByteArrayInputStream(body));
+        return credentials.getPassword();
+    }
+
+    @Benchmark
+    public String legacyOversized() throws IOException {
+        return legacyRead(oversizedBody);
+    }
+
+    @Benchmark
+    public String streamingOversized() throws IOException {
+        try {
+            return loginRequestReader.read(new ByteArrayInputStream(oversizedBody)).getPassword();
+        } catch (AuthenticationServiceException e) {
+            return e.getMessage();
+        }
+    }
+
+    private String legacyRead(byte[] bytes) throws IOException {
+        String messageBody = StreamUtils.copyToString(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8);
+        Map<String, String> usernamePasswordMap = objectMapper.readValue(messageBody, Map.class);
+        return usernamePasswordMap.get("password");
+    }
+}
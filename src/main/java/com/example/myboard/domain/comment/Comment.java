@@ -10,16 +10,22 @@ import lombok.NoArgsConstructor;
 import javax.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 @Entity
-@Table(name = "COMMENT")
+@Table(name = "COMMENT", indexes = {
+        // 게시글별 댓글 목록 키셋 페이지네이션용
+        @Index(name = "idx_comment_post_id_comment_id", columnList = "post_id, comment_id"),
+        // 삭제 표시된 최상위 댓글 정리용 (CommentCompactor)
+        @Index(name = "idx_comment_removable_root", columnList = "is_removed, parent_id, live_child_count")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Comment {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    //== 시퀀스를 50 개씩 미리 받아 쓰므로(pooled) insert 를 JDBC batch 로 묶을 수 있다 ==//
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq_generator")
+    @SequenceGenerator(name = "comment_seq_generator", sequenceName = "COMMENT_SEQ", allocationSize = 50)
     @Column(name = "comment_id")
     private Long id;
 
@@ -43,6 +49,10 @@ public class Comment {
 
     private boolean isRemoved = false;
 
+    //== 삭제되지 않은 대댓글 수, DB 에서 원자적으로 증감하므로 같은 트랜잭션 안에서는 이전 값일 수 있다 ==//
+    @Column(nullable = false)
+    private int liveChildCount = 0;
+
     //== 부모 댓글을 삭제해도 자식 댓글은 남아 있음 ==//
     @OneToMany(mappedBy = "parent")
     private List<Comment> childList = new ArrayList<>();
@@ -89,39 +99,4 @@ public class Comment {
         this.parent = parent;
         this.content = content;
     }
-
-    //== 비지니스 로직 ==//
-    public List<Comment> findRemoveableList() {
-        List<Comment> result = new ArrayList<>();
-
-
-        // 대댓글인 경우 부모가 삭제되었고, 모든 댓글이 삭제된 경우 리스트를 반환
-        Optional.ofNullable(this.parent).ifPresent(
-                parentComment -> {  //대댓글인 경우
-                    if(parentComment.isRemoved() && parentComment.isAllChildRemoved()) {
-                        result.addAll(parentComment.getChildList());
-                        result.add(parentComment);
-                    }
-                }
-        );
-
-        // 댓글인 경우 모든 대댓글이 삭제되었다면 리스트를 반환
-        if (! Optional.ofNullable(this.parent).isPresent() ) {
-            if (isAllChildRemoved()) {
-                result.add(this);
-                result.addAll(this.getChildList());
-            }
-        }
-
-        return result;
-    }
-
-    // 모든 자식 댓글이 삭제되었는지 판단
-    private boolean isAllChildRemoved() {
-        return getChildList().stream().
-                map(Comment::isRemoved)             // 지워졌는지 여부로 판단
-                .filter(isRemoved -> !isRemoved)    // 지워졌으면 true, 안지워졌으면 false
-                .findAny()                          // 지워지지 않은게 하나라도 있다면 false 를 리턴
-                .orElse(false);
-    }
 }
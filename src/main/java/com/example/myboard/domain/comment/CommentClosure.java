@@ -0,0 +1,44 @@
+package com.example.myboard.domain.comment;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+/**
+ * 댓글 계층 색인 (closure table)
+ * 댓글 하나마다 자기 자신(depth 0)과 모든 조상까지의 경로를 한 행씩 가진다.
+ * 하위 댓글 전체, 하위 댓글 수, 깊이를 재귀 없이 인덱스 조회 한 번으로 구할 수 있다.
+ * CommentClosureIndex 가 SQL 로 유지하며, comment.closure.enabled 가 꺼져 있으면 비어 있다.
+ */
+@Entity
+@Table(name = "COMMENT_CLOSURE", indexes = {
+        @Index(name = "idx_comment_closure_descendant", columnList = "descendant_id, depth")
+})
+@IdClass(CommentClosure.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CommentClosure {
+
+    //== 댓글과 함께 지우므로 FK 는 두지 않음 ==//
+    @Id
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private int depth;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
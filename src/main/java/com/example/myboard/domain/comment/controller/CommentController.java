@@ -0,0 +1,98 @@
+package com.example.myboard.domain.comment.controller;
+
+import com.example.myboard.domain.comment.dto.CommentBulkCreateDto;
+import com.example.myboard.domain.comment.dto.CommentSliceDto;
+import com.example.myboard.domain.comment.dto.CommentTreeDto;
+import com.example.myboard.domain.comment.service.CommentExporter;
+import com.example.myboard.domain.comment.service.CommentService;
+import com.example.myboard.global.monitor.sql.QueryBudget;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.Valid;
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@AllArgsConstructor
+public class CommentController {
+
+    private final CommentService commentService;
+    private final CommentExporter commentExporter;
+
+    /**
+     * 게시글 댓글 목록 조회
+     * 다음 페이지는 응답의 lastCommentId 를 넘겨서 요청
+     */
+    @GetMapping("/post/{postId}/comments")
+    @QueryBudget(5)
+    public ResponseEntity getComments(@PathVariable("postId") Long postId,
+                                      @RequestParam(value = "lastCommentId", required = false) Long lastCommentId,
+                                      @RequestParam(value = "size", defaultValue = "20") int size) {
+        CommentSliceDto commentSliceDto = commentService.findCommentsByPost(postId, lastCommentId, size);
+
+        return new ResponseEntity(commentSliceDto, HttpStatus.OK);
+    }
+
+    /**
+     * 게시글 댓글 트리 조회 (대댓글 포함, id 순 윈도우)
+     * 다음 윈도우는 마지막으로 받은 댓글 id 를 afterCommentId 로 넘겨서 요청
+     */
+    @GetMapping("/post/{postId}/comments/tree")
+    @QueryBudget(5)
+    public ResponseEntity getCommentTree(@PathVariable("postId") Long postId,
+                                         @RequestParam(value = "afterCommentId", required = false) Long afterCommentId,
+                                         @RequestParam(value = "size", defaultValue = "1000") int size) {
+        List<CommentTreeDto> commentTree = commentService.findCommentTree(postId, afterCommentId, size);
+
+        return new ResponseEntity(commentTree, HttpStatus.OK);
+    }
+
+    /**
+     * 댓글과 모든 하위 댓글 조회 (comment.closure.enabled)
+     */
+    @GetMapping("/comment/{commentId}/subtree")
+    @QueryBudget(5)
+    public ResponseEntity getSubtree(@PathVariable("commentId") Long commentId) throws Exception {
+        CommentTreeDto subtree = commentService.findSubtree(commentId);
+
+        return new ResponseEntity(subtree, HttpStatus.OK);
+    }
+
+    /**
+     * 댓글과 모든 하위 댓글 삭제 (관리자, comment.closure.enabled)
+     */
+    @DeleteMapping("/comment/{commentId}/subtree")
+    @ResponseStatus(HttpStatus.OK)
+    public void removeSubtree(@PathVariable("commentId") Long commentId) throws Exception {
+        commentService.removeSubtree(commentId);
+    }
+
+    /**
+     * 댓글 일괄 등록 (관리자, 이관용)
+     * 등록된 댓글 id 를 요청 순서대로 반환
+     */
+    @PostMapping("/post/{postId}/comments/bulk")
+    public ResponseEntity bulkCreate(@PathVariable("postId") Long postId,
+                                     @Valid @RequestBody CommentBulkCreateDto commentBulkCreateDto) throws Exception {
+        List<Long> commentIds = commentService.saveAll(postId, commentBulkCreateDto.getComments());
+
+        return new ResponseEntity(commentIds, HttpStatus.OK);
+    }
+
+    /**
+     * 게시글 댓글 전체 내보내기 (관리자, NDJSON)
+     * 응답을 메모리에 모으지 않고 읽는 대로 바로 내려보낸다.
+     */
+    @GetMapping("/post/{postId}/comments/export")
+    public void export(@PathVariable("postId") Long postId, HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Content-Disposition", "attachment; filename=\"post-" + postId + "-comments.ndjson\"");
+
+        commentExporter.export(postId, response.getOutputStream());
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.myboard.domain.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentBulkCreateDto {
+
+    @NotEmpty(message = "등록할 댓글이 없습니다.")
+    @Valid
+    private List<CommentCreateDto> comments;
+}
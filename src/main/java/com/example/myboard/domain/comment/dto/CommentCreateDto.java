@@ -0,0 +1,18 @@
+package com.example.myboard.domain.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentCreateDto {
+
+    @NotBlank(message = "내용을 입력해주세요.")
+    private String content;
+
+    private Long parentId;      // 대댓글이면 부모 댓글 id
+}
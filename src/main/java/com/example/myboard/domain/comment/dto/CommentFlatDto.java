@@ -0,0 +1,18 @@
+package com.example.myboard.domain.comment.dto;
+
+import lombok.Data;
+
+/**
+ * 댓글 트리 조립용 한 줄 (parent_id 포함)
+ * 게시글의 댓글을 id 순으로 한 번에 읽어서 CommentTreeBuilder 로 넘긴다.
+ */
+@Data
+public class CommentFlatDto {
+
+    private final Long commentId;
+    private final Long parentId;        // 최상위 댓글이면 null
+    private final String content;
+    private final boolean removed;
+    private final Long writerId;
+    private final String writerNickName;
+}
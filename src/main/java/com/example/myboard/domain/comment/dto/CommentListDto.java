@@ -0,0 +1,27 @@
+package com.example.myboard.domain.comment.dto;
+
+import lombok.Data;
+
+/**
+ * 게시글 댓글 목록의 한 줄
+ * JPQL 생성자 표현식(select new ...)으로 바로 채워지므로 Member 프록시를 만들지 않는다.
+ */
+@Data
+public class CommentListDto {
+
+    public static final String REMOVED_CONTENT = "삭제된 댓글입니다";
+
+    private final Long commentId;
+    private final String content;
+    private final boolean removed;
+    private final Long writerId;
+    private final String writerNickName;    // 탈퇴 등으로 작성자가 없으면 null
+
+    public CommentListDto(Long commentId, String content, boolean removed, Long writerId, String writerNickName) {
+        this.commentId = commentId;
+        this.content = removed ? REMOVED_CONTENT : content;
+        this.removed = removed;
+        this.writerId = writerId;
+        this.writerNickName = writerNickName;
+    }
+}
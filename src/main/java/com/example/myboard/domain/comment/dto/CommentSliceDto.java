@@ -0,0 +1,23 @@
+package com.example.myboard.domain.comment.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지 응답
+ * 다음 페이지는 lastCommentId 를 그대로 넘겨서 요청한다. (전체 개수는 세지 않는다)
+ */
+@Data
+public class CommentSliceDto {
+
+    private final List<CommentListDto> comments;
+    private final boolean hasNext;
+    private final Long lastCommentId;   // 비어있는 페이지면 null
+
+    public CommentSliceDto(List<CommentListDto> comments, boolean hasNext) {
+        this.comments = comments;
+        this.hasNext = hasNext;
+        this.lastCommentId = comments.isEmpty() ? null : comments.get(comments.size() - 1).getCommentId();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.myboard.domain.comment.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 댓글 트리의 노드 (불변)
+ * children 은 id 순이며 수정할 수 없는 리스트다.
+ * equals / toString 은 서브트리 전체를 도므로 만들지 않는다.
+ */
+@Getter
+public class CommentTreeDto {
+
+    private final Long commentId;
+    private final Long parentId;
+    private final String content;
+    private final boolean removed;
+    private final Long writerId;
+    private final String writerNickName;
+    private final List<CommentTreeDto> children;
+
+    public CommentTreeDto(CommentFlatDto row, List<CommentTreeDto> children) {
+        this.commentId = row.getCommentId();
+        this.parentId = row.getParentId();
+        this.content = row.isRemoved() ? CommentListDto.REMOVED_CONTENT : row.getContent();
+        this.removed = row.isRemoved();
+        this.writerId = row.getWriterId();
+        this.writerNickName = row.getWriterNickName();
+        this.children = children;
+    }
+}
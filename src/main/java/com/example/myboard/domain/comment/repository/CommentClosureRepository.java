@@ -0,0 +1,85 @@
+package com.example.myboard.domain.comment.repository;
+
+import com.example.myboard.domain.comment.CommentClosure;
+import com.example.myboard.domain.comment.dto.CommentFlatDto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface CommentClosureRepository extends JpaRepository<CommentClosure, CommentClosure.Key> {
+
+    //== 등록 : 자기 자신 행 + 부모의 조상 경로를 한 칸씩 늘린 행 (native 쿼리라 실행 전에 댓글 insert 가 flush 된다) ==//
+    @Modifying
+    @Query(value = "insert into comment_closure (ancestor_id, descendant_id, depth)" +
+            " select c.comment_id, c.comment_id, 0 from comment c where c.comment_id in :ids", nativeQuery = true)
+    int insertSelfPaths(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query(value = "insert into comment_closure (ancestor_id, descendant_id, depth)" +
+            " select cc.ancestor_id, c.comment_id, cc.depth + 1" +
+            " from comment c join comment_closure cc on cc.descendant_id = c.parent_id" +
+            " where c.comment_id in :ids", nativeQuery = true)
+    int insertAncestorPaths(@Param("ids") List<Long> ids);
+
+    //== 조회 ==//
+    @Query("select new com.example.myboard.domain.comment.dto.CommentFlatDto(c.id, c.parent.id, c.content, c.isRemoved, w.id, w.nickName)" +
+            " from CommentClosure cc join Comment c on c.id = cc.descendantId left join c.writer w" +
+            " where cc.ancestorId = :ancestorId" +
+            " order by c.id asc")
+    List<CommentFlatDto> findSubtree(@Param("ancestorId") Long ancestorId);
+
+    @Query("select count(cc) from CommentClosure cc where cc.ancestorId = :ancestorId")
+    long countSubtree(@Param("ancestorId") Long ancestorId);
+
+    @Query("select max(cc.depth) from CommentClosure cc where cc.descendantId = :descendantId")
+    Integer findDepth(@Param("descendantId") Long descendantId);
+
+    @Query("select cc.descendantId from CommentClosure cc where cc.ancestorId = :ancestorId")
+    List<Long> findDescendantIds(@Param("ancestorId") Long ancestorId);
+
+    //== 삭제 ==//
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update comment set parent_id = null where comment_id in" +
+            " (select descendant_id from comment_closure where ancestor_id = :ancestorId)", nativeQuery = true)
+    int detachSubtree(@Param("ancestorId") Long ancestorId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from comment where comment_id in" +
+            " (select descendant_id from comment_closure where ancestor_id = :ancestorId)", nativeQuery = true)
+    int deleteSubtreeComments(@Param("ancestorId") Long ancestorId);
+
+    @Modifying
+    @Query("delete from CommentClosure cc where cc.descendantId in :ids")
+    int deleteByDescendantIdIn(@Param("ids") List<Long> ids);
+
+    //== 댓글이 실제로 지워진 경우만 (정리 작업에서 남은 댓글의 경로는 그대로 둔다) ==//
+    @Modifying
+    @Query(value = "delete from comment_closure cc where cc.descendant_id in (:ids)" +
+            " and not exists (select 1 from comment c where c.comment_id = cc.descendant_id)", nativeQuery = true)
+    int deleteOrphanedByDescendantIdIn(@Param("ids") List<Long> ids);
+
+    //== 색인이 꺼져 있던 동안 바뀐 댓글 확인 : 자기 자신 행이 없는 댓글, 댓글이 없는 자기 자신 행 ==//
+    @Query(value = "select count(*) from comment c where not exists" +
+            " (select 1 from comment_closure cc where cc.ancestor_id = c.comment_id and cc.descendant_id = c.comment_id)", nativeQuery = true)
+    long countUnindexedComments();
+
+    @Query(value = "select count(*) from comment_closure cc where cc.depth = 0 and not exists" +
+            " (select 1 from comment c where c.comment_id = cc.descendant_id)", nativeQuery = true)
+    long countOrphanedSelfPaths();
+
+    //== 재구성 : 자기 자신 행을 넣고, 한 단계씩 아래로 경로를 늘려간다 ==//
+    @Modifying
+    @Query(value = "insert into comment_closure (ancestor_id, descendant_id, depth)" +
+            " select comment_id, comment_id, 0 from comment", nativeQuery = true)
+    int insertAllSelfPaths();
+
+    @Modifying
+    @Query(value = "insert into comment_closure (ancestor_id, descendant_id, depth)" +
+            " select cc.ancestor_id, c.comment_id, cc.depth + 1" +
+            " from comment_closure cc join comment c on c.parent_id = cc.descendant_id" +
+            " where cc.depth = :depth", nativeQuery = true)
+    int insertPathsBelowDepth(@Param("depth") int depth);
+}
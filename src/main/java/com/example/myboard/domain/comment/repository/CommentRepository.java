@@ -1,9 +1,126 @@
 package com.example.myboard.domain.comment.repository;
 
 import com.example.myboard.domain.comment.Comment;
+import com.example.myboard.domain.comment.dto.CommentFlatDto;
+import com.example.myboard.domain.comment.dto.CommentListDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    /**
+     * 게시글의 최상위 댓글을 comment_id 순으로 키셋(seek) 조회
+     * offset 없이 (post_id, comment_id) 인덱스에서 lastCommentId 다음부터 읽으므로 몇 번째 페이지든 비용이 같다.
+     * Slice 로 받아서 size + 1 건만 읽고 count 쿼리는 나가지 않는다. pageable 은 항상 0 페이지로 넘길 것.
+     */
+    @Query("select new com.example.myboard.domain.comment.dto.CommentListDto(c.id, c.content, c.isRemoved, w.id, w.nickName)" +
+            " from Comment c left join c.writer w" +
+            " where c.post.id = :postId and c.parent is null and c.id > :lastCommentId" +
+            " order by c.id asc")
+    Slice<CommentListDto> findTopLevelByPostId(@Param("postId") Long postId,
+                                               @Param("lastCommentId") Long lastCommentId,
+                                               Pageable pageable);
+
+    /**
+     * 게시글의 댓글을 대댓글 포함 id 순으로 한 번에 조회 (트리 조립용)
+     * c.parent.id 는 parent_id 컬럼을 그대로 읽으므로 부모를 조인하지 않는다.
+     * 전체를 읽을 때는 Pageable.unpaged(), 윈도우로 읽을 때는 PageRequest.of(0, size)
+     */
+    @Query("select new com.example.myboard.domain.comment.dto.CommentFlatDto(c.id, c.parent.id, c.content, c.isRemoved, w.id, w.nickName)" +
+            " from Comment c left join c.writer w" +
+            " where c.post.id = :postId and c.id > :afterCommentId" +
+            " order by c.id asc")
+    List<CommentFlatDto> findFlatByPostId(@Param("postId") Long postId,
+                                          @Param("afterCommentId") Long afterCommentId,
+                                          Pageable pageable);
+
+    /**
+     * 게시글의 댓글 전체를 id 순으로 흘려보낸다. (내보내기용)
+     * 결과를 한 번에 메모리에 올리지 않고 fetch size 만큼씩 읽으며, DTO 라서 영속성 컨텍스트에도 쌓이지 않는다.
+     * 읽기 전용 트랜잭션 안에서 사용하고, 다 쓰면 반드시 close 할 것
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("select new com.example.myboard.domain.comment.dto.CommentFlatDto(c.id, c.parent.id, c.content, c.isRemoved, w.id, w.nickName)" +
+            " from Comment c left join c.writer w" +
+            " where c.post.id = :postId" +
+            " order by c.id asc")
+    Stream<CommentFlatDto> streamByPostId(@Param("postId") Long postId);
+
+    /**
+     * 삭제 판단용, 부모 댓글까지 한 번에 조회 (부모의 isRemoved 를 보느라 프록시를 초기화하지 않게)
+     */
+    @Query("select c from Comment c left join fetch c.parent where c.id = :id")
+    Optional<Comment> findWithParentById(@Param("id") Long id);
+
+    /**
+     * 대댓글 등록(+1), 삭제 표시(-1) 때 DB 에서 원자적으로 증감 (살아있는 대댓글 수)
+     * 영속성 컨텍스트의 부모 엔티티 값은 바뀌지 않는다.
+     * 어긋날 수 있는 값이므로(CommentCounterReconciler) DB 에서 지울지 판단하는 데에는 쓰지 않는다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Comment c set c.liveChildCount = c.liveChildCount + :delta where c.id = :id")
+    int addLiveChildCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * [fromId, toId] 범위의 카운터를 실제 대댓글 수로 다시 계산 (어긋난 행만 수정)
+     * @return 수정된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Comment c set c.liveChildCount =" +
+            " (select count(r) from Comment r where r.parent.id = c.id and r.isRemoved = false)" +
+            " where c.id between :fromId and :toId and c.liveChildCount <>" +
+            " (select count(r) from Comment r where r.parent.id = c.id and r.isRemoved = false)")
+    int reconcileLiveChildCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("select max(c.id) from Comment c")
+    Long findMaxId();
+
+    /**
+     * afterId 다음부터 정리 후보인 최상위 댓글 (삭제 표시 + 삭제되지 않은 대댓글 없음)
+     * (is_removed, parent_id, live_child_count) 인덱스로 삭제 표시되고 liveChildCount 가 0 인 최상위 댓글만 읽는다.
+     * liveChildCount 는 후보를 줄이는 데만 쓰고, 대댓글의 isRemoved 를 다시 확인한다. 더 아래 단계는 CommentCompactor 가 확인한다.
+     */
+    @Query("select c.id from Comment c" +
+            " where c.isRemoved = true and c.parent is null and c.liveChildCount = 0 and c.id > :afterId" +
+            " and not exists (select r.id from Comment r where r.parent.id = c.id and r.isRemoved = false)" +
+            " order by c.id asc")
+    List<Long> findRemoveableRootIds(@Param("afterId") Long afterId, Pageable pageable);
+
+    //== 부모들의 바로 아래 대댓글 {id, parentId, isRemoved} ==//
+    @Query("select c.id, c.parent.id, c.isRemoved from Comment c where c.parent.id in :parentIds")
+    List<Object[]> findChildStates(@Param("parentIds") List<Long> parentIds);
+
+    //== 게시글별 댓글 수 ==//
+    @Query("select c.post.id, count(c) from Comment c" +
+            " where c.id in :ids and c.post is not null" +
+            " group by c.post.id")
+    List<Object[]> countByPostIdIn(@Param("ids") List<Long> ids);
 
+    /**
+     * 삭제 표시되어 있고 대댓글이 없는 댓글만 일괄 삭제 (정리 작업용)
+     * 대상을 고른 뒤에 대댓글이 새로 달린 댓글, 삭제 표시가 없는 댓글은 지우지 않는다.
+     * 영속성 컨텍스트를 거치지 않으므로 실행 전에 flush, 실행 후에 clear
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from comment c where c.comment_id in (:ids) and c.is_removed = true" +
+            " and not exists (select 1 from comment r where r.parent_id = c.comment_id)", nativeQuery = true)
+    int deleteRemovedLeavesIn(@Param("ids") List<Long> ids);
 }
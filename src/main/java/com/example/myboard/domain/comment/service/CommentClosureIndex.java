@@ -0,0 +1,142 @@
+package com.example.myboard.domain.comment.service;
+
+import com.example.myboard.domain.comment.dto.CommentFlatDto;
+import com.example.myboard.domain.comment.repository.CommentClosureRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * COMMENT_CLOSURE 유지 (comment.closure.enabled)
+ * 댓글 등록, 삭제와 같은 트랜잭션에서 호출되어 계층 색인을 함께 바꾼다.
+ * 댓글 수와 관계없이 등록은 insert 2 번, 하위 댓글 삭제는 update 1 번 + delete 2 번이다.
+ * 기동시 색인이 댓글과 맞지 않으면 (꺼져 있던 동안 등록, 삭제된 댓글이 있으면) 한 번 전체를 다시 만든다.
+ */
+@Slf4j
+@Component
+public class CommentClosureIndex implements ApplicationRunner {
+
+    private final CommentClosureRepository commentClosureRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    public CommentClosureIndex(CommentClosureRepository commentClosureRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${comment.closure.enabled:false}") boolean enabled) {
+        this.commentClosureRepository = commentClosureRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 새로 저장한 댓글들의 경로 추가 (부모는 이미 색인되어 있어야 한다)
+     */
+    public void onCreated(List<Long> commentIds) {
+        if (!enabled || commentIds.isEmpty()) {
+            return;
+        }
+        commentClosureRepository.insertSelfPaths(commentIds);
+        commentClosureRepository.insertAncestorPaths(commentIds);
+    }
+
+    /**
+     * CommentCompactor 가 댓글을 지운 뒤에 호출, 실제로 지워진 댓글의 경로만 지운다.
+     */
+    public void onDeleted(List<Long> commentIds) {
+        if (enabled && !commentIds.isEmpty()) {
+            commentClosureRepository.deleteOrphanedByDescendantIdIn(commentIds);
+        }
+    }
+
+    public List<CommentFlatDto> findSubtree(Long commentId) throws Exception {
+        checkEnabled();
+        return commentClosureRepository.findSubtree(commentId);
+    }
+
+    /**
+     * 자기 자신을 포함한 하위 댓글 수, 없는 댓글이면 0
+     */
+    public long countSubtree(Long commentId) throws Exception {
+        checkEnabled();
+        return commentClosureRepository.countSubtree(commentId);
+    }
+
+    /**
+     * 최상위 댓글이 0
+     */
+    public int depthOf(Long commentId) throws Exception {
+        checkEnabled();
+        Integer depth = commentClosureRepository.findDepth(commentId);
+        if (depth == null) {
+            throw new Exception("댓글이 없습니다.");
+        }
+        return depth;
+    }
+
+    /**
+     * 하위 댓글을 모두 DB 에서 삭제
+     * 부모 참조(parent_id)를 먼저 끊고 지우므로 FK 순서와 관계없이 한 번에 지울 수 있다.
+     * @return 삭제된 댓글 id
+     */
+    public List<Long> deleteSubtree(Long commentId) throws Exception {
+        checkEnabled();
+        List<Long> ids = commentClosureRepository.findDescendantIds(commentId);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+
+        commentClosureRepository.detachSubtree(commentId);
+        commentClosureRepository.deleteSubtreeComments(commentId);
+        commentClosureRepository.deleteByDescendantIdIn(ids);
+        return ids;
+    }
+
+    /**
+     * 색인을 비우고 COMMENT 의 parent_id 로부터 다시 만든다. (깊이 한 단계마다 insert 한 번)
+     * @return 만들어진 경로 수
+     */
+    public long rebuild() {
+        Long rows = transactionTemplate.execute(status -> {
+            commentClosureRepository.deleteAllInBatch();
+
+            long total = commentClosureRepository.insertAllSelfPaths();
+            int depth = 0;
+            int inserted;
+            while ((inserted = commentClosureRepository.insertPathsBelowDepth(depth++)) > 0) {
+                total += inserted;
+            }
+            return total;
+        });
+        return rows == null ? 0 : rows;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        long unindexed = commentClosureRepository.countUnindexedComments();
+        long orphaned = commentClosureRepository.countOrphanedSelfPaths();
+        if (unindexed > 0 || orphaned > 0) {
+            log.info("[comment] 계층 색인이 댓글과 맞지 않아 다시 만듭니다. unindexed:{}, orphaned:{}, paths:{}",
+                    unindexed, orphaned, rebuild());
+        }
+    }
+
+    private void checkEnabled() throws Exception {
+        if (!enabled) {
+            throw new Exception("댓글 계층 색인이 꺼져 있습니다.");
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.example.myboard.domain.comment.service;
+
+import com.example.myboard.domain.comment.repository.CommentRepository;
+import com.example.myboard.domain.post.service.PostCommentCounter;
+import com.example.myboard.global.scheduling.BackgroundJobRunner;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 삭제 표시된 댓글 정리 (백그라운드)
+ * CommentServiceImpl.remove 는 삭제 표시만 하고, 지울 수 있게 된 스레드(삭제된 최상위 댓글 + 모두 삭제된 하위 댓글)는 여기서 DB 에서 지운다.
+ *
+ * - 삭제 표시되고 liveChildCount 가 0 인 최상위 댓글만 인덱스로 id 순으로 batchSize 개씩 읽는다. (전체 id 범위를 훑지 않음)
+ * - 읽은 묶음마다 트랜잭션 하나에서 하위 댓글을 한 단계씩 확인하고, 가장 아래 단계부터 일괄 삭제한다.
+ * - liveChildCount 는 어긋날 수 있으므로 후보를 고르는 데만 쓰고, 삭제 전에 isRemoved 와 남은 대댓글을 DB 에서 직접 확인한다.
+ *   (0 이 아니게 어긋난 스레드는 CommentCounterReconciler 가 고친 뒤에 정리된다)
+ * - 초당 삭제 수가 maxDeletesPerSecond 를 넘지 않도록 묶음 사이에 쉰다. (사용자 요청과 DB 를 나눠 쓰므로)
+ * 스케줄러 스레드를 오래 잡지 않도록 BackgroundJobRunner 에서 실행하며, 진행 상황은 /monitor/comment-compaction 에서 볼 수 있다.
+ */
+@Slf4j
+@Component
+public class CommentCompactor {
+
+    private static final int IN_CLAUSE_LIMIT = 1000;
+
+    private final CommentRepository commentRepository;
+    private final CommentClosureIndex commentClosureIndex;
+    private final PostCommentCounter postCommentCounter;
+    private final BackgroundJobRunner backgroundJobRunner;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxDeletesPerSecond;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    //== 진행 상황 ==//
+    private final AtomicLong scannedUpToId = new AtomicLong();
+    private final AtomicLong passMaxId = new AtomicLong();
+    private final AtomicLong candidatesInPass = new AtomicLong();
+    private final AtomicLong deletedInPass = new AtomicLong();
+    private final AtomicLong deletedTotal = new AtomicLong();
+    private final AtomicLong lastPassStartedAt = new AtomicLong();
+    private final AtomicLong lastPassCompletedAt = new AtomicLong();
+    private final AtomicLong lastPassMillis = new AtomicLong();
+
+    public CommentCompactor(CommentRepository commentRepository,
+                            CommentClosureIndex commentClosureIndex,
+                            PostCommentCounter postCommentCounter,
+                            BackgroundJobRunner backgroundJobRunner,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${comment.compaction.enabled:true}") boolean enabled,
+                            @Value("${comment.compaction.batch-size:100}") int batchSize,
+                            @Value("${comment.compaction.max-deletes-per-second:1000}") int maxDeletesPerSecond) {
+        this.commentRepository = commentRepository;
+        this.commentClosureIndex = commentClosureIndex;
+        this.postCommentCounter = postCommentCounter;
+        this.backgroundJobRunner = backgroundJobRunner;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxDeletesPerSecond = maxDeletesPerSecond;
+    }
+
+    @Scheduled(initialDelayString = "${comment.compaction.initial-delay-ms:30000}",
+            fixedDelayString = "${comment.compaction.interval-ms:60000}")
+    public void scheduledCompact() {
+        if (enabled) {
+            backgroundJobRunner.submit("comment-compaction", this::compact);
+        }
+    }
+
+    /**
+     * 처음부터 끝까지 한 바퀴 정리
+     * @return 삭제된 댓글 수 (대댓글 포함), 이미 실행 중이면 -1
+     */
+    public long compact() {
+        if (!running.compareAndSet(false, true)) {
+            return -1;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            Long maxId = commentRepository.findMaxId();
+            startPass(startedAt, maxId == null ? 0 : maxId);
+
+            long cursor = 0;
+            while (true) {
+                long afterId = cursor;
+                long batchStartedAt = System.nanoTime();
+                long[] result = transactionTemplate.execute(status -> deleteBatch(afterId));
+                if (result == null || result[0] == 0) {
+                    break;
+                }
+
+                int count = (int) result[1];
+                candidatesInPass.addAndGet(result[2]);
+                deletedInPass.addAndGet(count);
+                deletedTotal.addAndGet(count);
+                cursor = result[0];
+                scannedUpToId.set(cursor);
+
+                throttle(count, System.nanoTime() - batchStartedAt);
+            }
+            scannedUpToId.set(Math.max(cursor, passMaxId.get()));
+
+            long deleted = deletedInPass.get();
+            lastPassCompletedAt.set(System.currentTimeMillis());
+            lastPassMillis.set(System.currentTimeMillis() - startedAt);
+            if (deleted > 0) {
+                log.info("[comment] 삭제된 댓글 {}건 정리 ({}ms)", deleted, lastPassMillis.get());
+            }
+            return deleted;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return deletedInPass.get();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void startPass(long startedAt, long maxId) {
+        lastPassStartedAt.set(startedAt);
+        passMaxId.set(maxId);
+        scannedUpToId.set(0);
+        deletedInPass.set(0);
+        candidatesInPass.set(0);
+    }
+
+    /**
+     * 대상 조회와 삭제를 한 트랜잭션에서
+     * 삭제 쿼리도 삭제 표시와 대댓글 유무를 다시 확인하므로, 그 사이에 달린 대댓글과 그 조상은 지워지지 않는다.
+     * @return {마지막으로 확인한 최상위 댓글 id (없으면 0), 삭제된 댓글 수, 확인한 최상위 댓글 수}
+     */
+    private long[] deleteBatch(long afterId) {
+        List<Long> rootIds = commentRepository.findRemoveableRootIds(afterId, PageRequest.of(0, batchSize));
+        if (rootIds.isEmpty()) {
+            return new long[]{0, 0, 0};
+        }
+        long lastRootId = rootIds.get(rootIds.size() - 1);
+
+        List<List<Long>> levels = collectRemovedThreads(rootIds);
+        List<Long> ids = new ArrayList<>();
+        levels.forEach(ids::addAll);
+        if (ids.isEmpty()) {
+            return new long[]{lastRootId, 0, rootIds.size()};
+        }
+        Map<Long, Long> countsByPost = countByPost(ids);
+
+        int deleted = 0;
+        for (int depth = levels.size() - 1; depth >= 0; depth--) {
+            for (List<Long> chunk : chunks(levels.get(depth))) {
+                deleted += commentRepository.deleteRemovedLeavesIn(chunk);
+            }
+        }
+        for (List<Long> chunk : chunks(ids)) {
+            commentClosureIndex.onDeleted(chunk);
+        }
+
+        // 지워지지 않고 남은 댓글은 빼고 게시글 댓글 수에 반영
+        Map<Long, Long> remainingByPost = deleted < ids.size() ? countByPost(ids) : Collections.<Long, Long>emptyMap();
+        countsByPost.forEach((postId, count) -> {
+            long removed = count - remainingByPost.getOrDefault(postId, 0L);
+            if (removed > 0) {
+                postCommentCounter.addAfterCommit(postId, -removed);
+            }
+        });
+        return new long[]{lastRootId, deleted, rootIds.size()};
+    }
+
+    /**
+     * 후보 댓글 아래를 한 단계씩 내려가며 스레드 전체를 모은다. (깊이와 관계없이 단계마다 조회 한 번)
+     * 삭제되지 않은 댓글이 하나라도 있는 스레드는 통째로 뺀다.
+     * @return 단계별 댓글 id, 0 번째가 최상위 댓글
+     */
+    private List<List<Long>> collectRemovedThreads(List<Long> rootIds) {
+        Map<Long, Long> rootIdOf = new HashMap<>();
+        rootIds.forEach(id -> rootIdOf.put(id, id));
+        Set<Long> liveRootIds = new HashSet<>();
+
+        List<List<Long>> levels = new ArrayList<>();
+        levels.add(rootIds);
+        List<Long> parents = rootIds;
+        while (!parents.isEmpty()) {
+            List<Long> children = new ArrayList<>();
+            for (List<Long> chunk : chunks(parents)) {
+                for (Object[] row : commentRepository.findChildStates(chunk)) {
+                    Long id = (Long) row[0];
+                    Long rootId = rootIdOf.get((Long) row[1]);
+                    if (rootIdOf.putIfAbsent(id, rootId) != null) {
+                        continue;
+                    }
+                    if (!(Boolean) row[2]) {
+                        liveRootIds.add(rootId);
+                    }
+                    children.add(id);
+                }
+            }
+            if (!children.isEmpty()) {
+                levels.add(children);
+            }
+            parents = children;
+        }
+
+        if (liveRootIds.isEmpty()) {
+            return levels;
+        }
+        List<List<Long>> removedLevels = new ArrayList<>(levels.size());
+        for (List<Long> level : levels) {
+            List<Long> removed = new ArrayList<>(level.size());
+            for (Long id : level) {
+                if (!liveRootIds.contains(rootIdOf.get(id))) {
+                    removed.add(id);
+                }
+            }
+            removedLevels.add(removed);
+        }
+        return removedLevels;
+    }
+
+    private Map<Long, Long> countByPost(List<Long> ids) {
+        Map<Long, Long> countsByPost = new HashMap<>();
+        for (List<Long> chunk : chunks(ids)) {
+            for (Object[] row : commentRepository.countByPostIdIn(chunk)) {
+                countsByPost.merge((Long) row[0], (Long) row[1], Long::sum);
+            }
+        }
+        return countsByPost;
+    }
+
+    // IN 절 하나에 넣을 id 수를 제한
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>((ids.size() + IN_CLAUSE_LIMIT - 1) / IN_CLAUSE_LIMIT);
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_LIMIT) {
+            chunks.add(ids.subList(from, Math.min(ids.size(), from + IN_CLAUSE_LIMIT)));
+        }
+        return chunks;
+    }
+
+    private void throttle(int deleted, long elapsedNanos) throws InterruptedException {
+        if (maxDeletesPerSecond <= 0 || deleted == 0) {
+            return;
+        }
+
+        long budgetNanos = deleted * 1_000_000_000L / maxDeletesPerSecond;
+        long sleepMillis = (budgetNanos - elapsedNanos) / 1_000_000;
+        if (sleepMillis > 0) {
+            Thread.sleep(sleepMillis);
+        }
+    }
+
+    public Stats stats() {
+        long maxId = passMaxId.get();
+        long completedAt = lastPassCompletedAt.get();
+        return new Stats(
+                running.get(),
+                scannedUpToId.get(),
+                maxId,
+                maxId == 0 ? 100.0 : Math.min(100.0, scannedUpToId.get() * 100.0 / maxId),
+                candidatesInPass.get(),
+                deletedInPass.get(),
+                deletedTotal.get(),
+                lastPassMillis.get(),
+                completedAt == 0 ? -1 : System.currentTimeMillis() - completedAt);
+    }
+
+    @Getter
+    public static class Stats {
+        private final boolean running;
+        private final long scannedUpToId;
+        private final long maxId;
+        private final double progressPercent;       // 이번 (또는 마지막) 바퀴에서 훑은 비율
+        private final long candidatesInPass;        // 이번 (또는 마지막) 바퀴에서 확인한 정리 후보 최상위 댓글 수
+        private final long deletedInPass;
+        private final long deletedTotal;
+        private final long lastPassMillis;
+        private final long millisSinceLastPass;     // 마지막으로 한 바퀴를 다 돈 뒤 지난 시간, 아직 없으면 -1
+
+        Stats(boolean running, long scannedUpToId, long maxId, double progressPercent, long candidatesInPass,
+              long deletedInPass, long deletedTotal, long lastPassMillis, long millisSinceLastPass) {
+            this.running = running;
+            this.scannedUpToId = scannedUpToId;
+            this.maxId = maxId;
+            this.progressPercent = progressPercent;
+            this.candidatesInPass = candidatesInPass;
+            this.deletedInPass = deletedInPass;
+            this.deletedTotal = deletedTotal;
+            this.lastPassMillis = lastPassMillis;
+            this.millisSinceLastPass = millisSinceLastPass;
+        }
+    }
+}
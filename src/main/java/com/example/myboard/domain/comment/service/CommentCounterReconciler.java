@@ -0,0 +1,82 @@
+package com.example.myboard.domain.comment.service;
+
+import com.example.myboard.domain.comment.repository.CommentRepository;
+import com.example.myboard.global.scheduling.BackgroundJobRunner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Comment.liveChildCount 재계산 작업
+ * 서버가 증감 도중 죽었거나, SQL 로 직접 데이터를 고친 경우 어긋난 카운터를 바로잡는다.
+ * id 범위를 batchSize 씩 나누어 범위마다 별도 트랜잭션으로 update 한 번을 실행하므로, 락을 오래 잡지 않는다.
+ * 스케줄러 스레드를 오래 잡지 않도록 BackgroundJobRunner 에서 실행한다.
+ */
+@Slf4j
+@Component
+public class CommentCounterReconciler {
+
+    private final CommentRepository commentRepository;
+    private final BackgroundJobRunner backgroundJobRunner;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public CommentCounterReconciler(CommentRepository commentRepository,
+                                    BackgroundJobRunner backgroundJobRunner,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${comment.live-child-count.reconcile.enabled:true}") boolean enabled,
+                                    @Value("${comment.live-child-count.reconcile.batch-size:1000}") int batchSize) {
+        this.commentRepository = commentRepository;
+        this.backgroundJobRunner = backgroundJobRunner;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Scheduled(initialDelayString = "${comment.live-child-count.reconcile.initial-delay-ms:60000}",
+            fixedDelayString = "${comment.live-child-count.reconcile.interval-ms:3600000}")
+    public void scheduledReconcile() {
+        if (enabled) {
+            backgroundJobRunner.submit("comment-live-child-count-reconcile", this::reconcile);
+        }
+    }
+
+    /**
+     * @return 바로잡은 댓글 수, 이미 실행 중이면 -1
+     */
+    public long reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            return -1;
+        }
+
+        try {
+            Long maxId = commentRepository.findMaxId();
+            if (maxId == null) {
+                return 0;
+            }
+
+            long repaired = 0;
+            for (long start = 1; start <= maxId; start += batchSize) {
+                long fromId = start;
+                long toId = Math.min(maxId, start + batchSize - 1);
+                Integer count = transactionTemplate.execute(status -> commentRepository.reconcileLiveChildCount(fromId, toId));
+                repaired += count == null ? 0 : count;
+            }
+
+            if (repaired > 0) {
+                log.warn("[comment] liveChildCount 불일치 {}건 수정 (maxId={})", repaired, maxId);
+            }
+            return repaired;
+        } finally {
+            running.set(false);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.myboard.domain.comment.service;
+
+import com.example.myboard.domain.comment.dto.CommentFlatDto;
+import com.example.myboard.domain.comment.repository.CommentRepository;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 게시글의 댓글 전체를 NDJSON (한 줄에 댓글 하나) 으로 내보내기
+ * 행을 읽는 대로 JsonGenerator 로 바로 쓰므로, 댓글 수와 관계없이 메모리 사용량이 일정하다.
+ * 삭제 표시된 댓글도 원문 그대로 내보낸다. (관리, 보관용)
+ */
+@Component
+public class CommentExporter {
+
+    //== 이 행 수마다 출력 버퍼를 내보내고 영속성 컨텍스트를 비운다 ==//
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private final CommentRepository commentRepository;
+    private final EntityManager em;
+    private final JsonFactory jsonFactory;
+
+    public CommentExporter(CommentRepository commentRepository, EntityManager em, ObjectMapper objectMapper) {
+        this.commentRepository = commentRepository;
+        this.em = em;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * @return 내보낸 댓글 수
+     */
+    @Transactional(readOnly = true)
+    public long export(Long postId, OutputStream out) throws IOException {
+        long count = 0;
+
+        try (Stream<CommentFlatDto> rows = commentRepository.streamByPostId(postId);
+             JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<CommentFlatDto> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                write(generator, iterator.next());
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                    em.clear();
+                }
+            }
+            generator.flush();
+        }
+        return count;
+    }
+
+    private void write(JsonGenerator generator, CommentFlatDto row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("commentId", row.getCommentId());
+        writeNullableNumber(generator, "parentId", row.getParentId());
+        generator.writeStringField("content", row.getContent());
+        generator.writeBooleanField("removed", row.isRemoved());
+        writeNullableNumber(generator, "writerId", row.getWriterId());
+        generator.writeStringField("writerNickName", row.getWriterNickName());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private void writeNullableNumber(JsonGenerator generator, String name, Long value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeNumberField(name, value);
+        }
+    }
+}
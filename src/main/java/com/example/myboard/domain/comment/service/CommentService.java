@@ -1,6 +1,9 @@
 package com.example.myboard.domain.comment.service;
 
 import com.example.myboard.domain.comment.Comment;
+import com.example.myboard.domain.comment.dto.CommentCreateDto;
+import com.example.myboard.domain.comment.dto.CommentSliceDto;
+import com.example.myboard.domain.comment.dto.CommentTreeDto;
 
 import java.util.List;
 
@@ -8,9 +11,25 @@ public interface CommentService {
 
     void save(Comment comment);
 
+    List<Long> saveAll(Long postId, List<CommentCreateDto> commentCreateDtos) throws Exception;
+
     Comment findById(Long id) throws Exception;
 
     List<Comment> findAll();
 
     void remove(Long id) throws Exception;
+
+    CommentSliceDto findCommentsByPost(Long postId, Long lastCommentId, int size);
+
+    List<CommentTreeDto> findCommentTree(Long postId);
+
+    List<CommentTreeDto> findCommentTree(Long postId, Long afterCommentId, int size);
+
+    CommentTreeDto findSubtree(Long commentId) throws Exception;
+
+    long countSubtree(Long commentId) throws Exception;
+
+    int depthOf(Long commentId) throws Exception;
+
+    int removeSubtree(Long commentId) throws Exception;
 }
@@ -1,25 +1,124 @@
 package com.example.myboard.domain.comment.service;
 
 import com.example.myboard.domain.comment.Comment;
+import com.example.myboard.domain.comment.dto.CommentCreateDto;
+import com.example.myboard.domain.comment.dto.CommentListDto;
+import com.example.myboard.domain.comment.dto.CommentSliceDto;
+import com.example.myboard.domain.comment.dto.CommentTreeDto;
 import com.example.myboard.domain.comment.repository.CommentRepository;
+import com.example.myboard.domain.member.Member;
+import com.example.myboard.domain.member.exception.MemberException;
+import com.example.myboard.domain.member.exception.MemberExceptionType;
+import com.example.myboard.domain.member.repository.MemberRepository;
+import com.example.myboard.domain.post.Post;
+import com.example.myboard.domain.post.repository.PostRepository;
+import com.example.myboard.domain.post.service.PostCommentCounter;
+import com.example.myboard.global.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class CommentServiceImpl implements CommentService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int DEFAULT_TREE_WINDOW = 1000;
+    public static final int MAX_TREE_WINDOW = 10000;
+
     private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
+    private final PostCommentCounter postCommentCounter;
+    private final CommentClosureIndex commentClosureIndex;
+
+    @Value("${comment.bulk.max-size:1000}")
+    private int bulkMaxSize;
 
     @Override
     public void save(Comment comment) {
         commentRepository.save(comment);
+        commentClosureIndex.onCreated(Collections.singletonList(comment.getId()));
+
+        if (comment.getParent() != null && !comment.isRemoved()) {
+            commentRepository.addLiveChildCount(comment.getParent().getId(), 1);
+        }
+        postCommentCounter.addAfterCommit(postIdOf(comment), 1);
 
     }
 
+    /**
+     * 댓글 일괄 등록 (로그인한 회원이 작성자)
+     * id 를 시퀀스에서 미리 받아두므로 insert 가 hibernate.jdbc.batch_size 개씩 묶여서 나간다.
+     * 부모 댓글은 IN 한 번으로 읽고, liveChildCount 는 부모마다 update 한 번으로 더한다.
+     */
+    @Override
+    public List<Long> saveAll(Long postId, List<CommentCreateDto> commentCreateDtos) throws Exception {
+        if (commentCreateDtos.size() > bulkMaxSize) {
+            throw new Exception("한 번에 등록할 수 있는 댓글은 " + bulkMaxSize + "개 입니다.");
+        }
+
+        Post post = postRepository.findById(postId).orElseThrow(() -> new Exception("게시글이 없습니다."));
+        Member writer = memberRepository.findByUsername(SecurityUtil.getLoginUsername()).orElseThrow(() -> new MemberException(MemberExceptionType.NOT_FOUND_MEMBER));
+        Map<Long, Comment> parents = findParents(post, commentCreateDtos);
+
+        List<Comment> comments = new ArrayList<>(commentCreateDtos.size());
+        Map<Long, Integer> childCountByParentId = new HashMap<>();
+        for (CommentCreateDto dto : commentCreateDtos) {
+            Comment parent = dto.getParentId() == null ? null : parents.get(dto.getParentId());
+            comments.add(Comment.builder().writer(writer).post(post).parent(parent).content(dto.getContent()).build());
+
+            if (parent != null) {
+                childCountByParentId.merge(parent.getId(), 1, Integer::sum);
+            }
+        }
+
+        commentRepository.saveAll(comments);
+        List<Long> ids = new ArrayList<>(comments.size());
+        comments.forEach(comment -> ids.add(comment.getId()));
+
+        commentClosureIndex.onCreated(ids);
+        childCountByParentId.forEach((parentId, count) -> commentRepository.addLiveChildCount(parentId, count));
+        postCommentCounter.addAfterCommit(postId, comments.size());
+        return ids;
+    }
+
+    private Map<Long, Comment> findParents(Post post, List<CommentCreateDto> commentCreateDtos) throws Exception {
+        List<Long> parentIds = new ArrayList<>();
+        for (CommentCreateDto dto : commentCreateDtos) {
+            if (dto.getParentId() != null) {
+                parentIds.add(dto.getParentId());
+            }
+        }
+        if (parentIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, Comment> parents = new HashMap<>();
+        for (Comment parent : commentRepository.findAllById(parentIds)) {
+            parents.put(parent.getId(), parent);
+        }
+        for (Long parentId : parentIds) {
+            Comment parent = parents.get(parentId);
+            if (parent == null || parent.getPost() == null || !post.getId().equals(parent.getPost().getId())) {
+                throw new Exception("댓글이 없습니다.");
+            }
+        }
+        return parents;
+    }
+
     @Override
     @Transactional
     public Comment findById(Long id) throws Exception {
@@ -32,14 +131,104 @@ public class CommentServiceImpl implements CommentService {
         return commentRepository.findAll();
     }
 
+    /**
+     * 댓글 삭제 (삭제 표시만)
+     * 화면에는 "삭제된 댓글입니다" 로 보이고, DB 에서 지울 수 있게 된 스레드는 CommentCompactor 가 나중에 정리한다.
+     * - 댓글 : 살아있는 대댓글이 없으면 댓글과 대댓글 모두 정리 대상
+     * - 대댓글 : 부모가 삭제되었고 살아있는 형제가 없으면 부모와 대댓글 모두 정리 대상
+     * 스레드 크기와 관계없이 조회 1 번, update 2 번으로 끝난다.
+     */
     @Override
     public void remove(Long id) throws Exception {
-        //Comment comment = findById(id);
-        Comment comment = commentRepository.findById(id).orElseThrow(() -> new Exception("댓글이 없습니다."));
+        Comment comment = commentRepository.findWithParentById(id).orElseThrow(() -> new Exception("댓글이 없습니다."));
+        boolean wasLive = !comment.isRemoved();
         comment.remove();
 
-        List<Comment> removeableCommentList = comment.findRemoveableList();
-        removeableCommentList.forEach(removeableComment -> commentRepository.delete(removeableComment));
+        if (wasLive && comment.getParent() != null) {
+            commentRepository.addLiveChildCount(comment.getParent().getId(), -1);
+        }
+    }
+
+    // 프록시를 초기화하지 않고 post_id 만 읽는다
+    private Long postIdOf(Comment comment) {
+        Post post = comment.getPost();
+        return post == null ? null : post.getId();
+    }
+
+    /**
+     * 게시글의 최상위 댓글 목록 (키셋 페이지네이션)
+     * lastCommentId 가 없으면 첫 페이지, size 는 1 ~ MAX_PAGE_SIZE 로 맞춘다.
+     */
+    @Override
+    public CommentSliceDto findCommentsByPost(Long postId, Long lastCommentId, int size) {
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        long cursor = lastCommentId == null ? 0L : lastCommentId;
+
+        Slice<CommentListDto> slice = commentRepository.findTopLevelByPostId(postId, cursor, PageRequest.of(0, pageSize));
+        return new CommentSliceDto(slice.getContent(), slice.hasNext());
+    }
+
+    /**
+     * 게시글의 댓글 전체를 쿼리 한 번으로 읽어서 트리로 조립
+     */
+    @Override
+    public List<CommentTreeDto> findCommentTree(Long postId) {
+        return CommentTreeBuilder.build(commentRepository.findFlatByPostId(postId, 0L, Pageable.unpaged()));
+    }
+
+    /**
+     * afterCommentId 다음부터 size 건을 읽어서 트리로 조립
+     * 부모가 이전 윈도우에 있는 대댓글은 루트로 올라오고 parentId 로 이어붙일 수 있다.
+     */
+    @Override
+    public List<CommentTreeDto> findCommentTree(Long postId, Long afterCommentId, int size) {
+        int windowSize = size <= 0 ? DEFAULT_TREE_WINDOW : Math.min(size, MAX_TREE_WINDOW);
+        long cursor = afterCommentId == null ? 0L : afterCommentId;
+
+        return CommentTreeBuilder.build(commentRepository.findFlatByPostId(postId, cursor, PageRequest.of(0, windowSize)));
+    }
+
+    /**
+     * 댓글과 모든 하위 댓글을 트리로 조회 (계층 색인 사용)
+     */
+    @Override
+    public CommentTreeDto findSubtree(Long commentId) throws Exception {
+        List<CommentTreeDto> roots = CommentTreeBuilder.build(commentClosureIndex.findSubtree(commentId));
+        if (roots.isEmpty()) {
+            throw new Exception("댓글이 없습니다.");
+        }
+        return roots.get(0);
+    }
+
+    @Override
+    public long countSubtree(Long commentId) throws Exception {
+        return commentClosureIndex.countSubtree(commentId);
+    }
+
+    @Override
+    public int depthOf(Long commentId) throws Exception {
+        return commentClosureIndex.depthOf(commentId);
+    }
+
+    /**
+     * 댓글과 모든 하위 댓글을 DB 에서 바로 삭제 (관리자용, 계층 색인 사용)
+     * 검사 예외는 롤백되지 않으므로, 카운터는 실제로 삭제된 뒤에만 바꾼다.
+     */
+    @Override
+    public int removeSubtree(Long commentId) throws Exception {
+        Comment comment = commentRepository.findWithParentById(commentId).orElseThrow(() -> new Exception("댓글이 없습니다."));
+        Long postId = postIdOf(comment);
+        Long liveParentId = !comment.isRemoved() && comment.getParent() != null ? comment.getParent().getId() : null;
+
+        int deleted = commentClosureIndex.deleteSubtree(commentId).size();
+        if (deleted == 0) {
+            return 0;
+        }
 
+        if (liveParentId != null) {
+            commentRepository.addLiveChildCount(liveParentId, -1);
+        }
+        postCommentCounter.addAfterCommit(postId, -deleted);
+        return deleted;
     }
 }
@@ -0,0 +1,103 @@
+package com.example.myboard.domain.comment.service;
+
+import com.example.myboard.domain.comment.dto.CommentFlatDto;
+import com.example.myboard.domain.comment.dto.CommentTreeDto;
+import com.example.myboard.global.util.LongIntHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * id 순으로 읽은 댓글 목록을 트리로 조립 (O(n), 재귀 없음)
+ *
+ * 1. id -> 인덱스를 LongIntHashMap 에 넣고 부모 인덱스를 int 배열로 만든다.
+ * 2. 뒤에서부터 first-child / next-sibling 연결 리스트를 만들어 형제가 id 순이 되게 한다.
+ * 3. 루트부터 BFS 순서를 구하고, 그 역순으로 노드를 만들면 자식이 항상 부모보다 먼저 완성된다.
+ *
+ * 부모가 목록에 없는 댓글(윈도우 밖의 부모)은 루트로 올리고 parentId 는 그대로 남겨서, 클라이언트가 이어붙일 수 있게 한다.
+ */
+public final class CommentTreeBuilder {
+
+    private static final int NONE = -1;
+
+    private CommentTreeBuilder() {
+    }
+
+    public static List<CommentTreeDto> build(List<CommentFlatDto> rows) {
+        int n = rows.size();
+        if (n == 0) {
+            return Collections.emptyList();
+        }
+
+        LongIntHashMap indexById = new LongIntHashMap(n, NONE);
+        for (int i = 0; i < n; i++) {
+            indexById.put(rows.get(i).getCommentId(), i);
+        }
+
+        int[] parent = new int[n];
+        int[] firstChild = new int[n];
+        int[] nextSibling = new int[n];
+        int[] childCount = new int[n];
+        Arrays.fill(firstChild, NONE);
+
+        for (int i = 0; i < n; i++) {
+            Long parentId = rows.get(i).getParentId();
+            parent[i] = parentId == null ? NONE : indexById.get(parentId);
+        }
+
+        // 역순으로 앞에 끼워 넣으면 형제가 입력 순서(id 순)로 연결된다
+        int firstRoot = NONE;
+        int rootCount = 0;
+        for (int i = n - 1; i >= 0; i--) {
+            int p = parent[i];
+            if (p == NONE) {
+                nextSibling[i] = firstRoot;
+                firstRoot = i;
+                rootCount++;
+            } else {
+                nextSibling[i] = firstChild[p];
+                firstChild[p] = i;
+                childCount[p]++;
+            }
+        }
+
+        // 루트부터 BFS, 부모가 항상 자식보다 앞에 온다
+        int[] order = new int[n];
+        int tail = 0;
+        for (int r = firstRoot; r != NONE; r = nextSibling[r]) {
+            order[tail++] = r;
+        }
+        for (int head = 0; head < tail; head++) {
+            for (int c = firstChild[order[head]]; c != NONE; c = nextSibling[c]) {
+                order[tail++] = c;
+            }
+        }
+
+        CommentTreeDto[] built = new CommentTreeDto[n];
+        for (int k = tail - 1; k >= 0; k--) {
+            int i = order[k];
+            built[i] = new CommentTreeDto(rows.get(i), childrenOf(i, firstChild, nextSibling, childCount, built));
+        }
+
+        List<CommentTreeDto> roots = new ArrayList<>(rootCount);
+        for (int r = firstRoot; r != NONE; r = nextSibling[r]) {
+            roots.add(built[r]);
+        }
+        return Collections.unmodifiableList(roots);
+    }
+
+    private static List<CommentTreeDto> childrenOf(int i, int[] firstChild, int[] nextSibling, int[] childCount, CommentTreeDto[] built) {
+        if (childCount[i] == 0) {
+            return Collections.emptyList();
+        }
+
+        CommentTreeDto[] children = new CommentTreeDto[childCount[i]];
+        int k = 0;
+        for (int c = firstChild[i]; c != NONE; c = nextSibling[c]) {
+            children[k++] = built[c];
+        }
+        return Collections.unmodifiableList(Arrays.asList(children));
+    }
+}
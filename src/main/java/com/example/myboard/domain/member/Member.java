@@ -18,7 +18,9 @@ import java.util.List;
 @Builder
 public class Member {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    //== 시퀀스를 50 개씩 미리 받아 쓰므로(pooled) insert 를 JDBC batch 로 묶을 수 있다 ==//
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq_generator")
+    @SequenceGenerator(name = "member_seq_generator", sequenceName = "MEMBER_SEQ", allocationSize = 50)
     @Column(name = "member_id")
     private Long id;    // primary key
 
@@ -67,6 +69,11 @@ public class Member {
         this.password = passwordEncoder.encode(password);
     }
 
+    // 이미 해싱된 비밀번호로 교체 (work factor 변경에 따른 재해싱)
+    public void updateEncodedPassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
     public void updateName(String name) {
         this.name = name;
     }
@@ -3,6 +3,7 @@ package com.example.myboard.domain.member.controller;
 import com.example.myboard.domain.member.Member;
 import com.example.myboard.domain.member.dto.*;
 import com.example.myboard.domain.member.service.MemberService;
+import com.example.myboard.global.monitor.sql.QueryBudget;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -56,6 +57,7 @@ public class MemberController {
      * 회원정보 조회
      */
     @GetMapping("/member/{id}")
+    @QueryBudget(5)
     public ResponseEntity getInfo(@Valid @PathVariable("id") Long id) throws Exception {
         MemberInfoDto memberInfoDto = memberService.getInfo(id);
 
@@ -66,6 +68,7 @@ public class MemberController {
      * 내정보 조회
      */
     @GetMapping("/member")
+    @QueryBudget(5)
     public ResponseEntity getMyInfo() throws Exception {
         MemberInfoDto memberInfoDto = memberService.getMyInfo();
 
@@ -2,16 +2,20 @@ package com.example.myboard.domain.member.service;
 
 import com.example.myboard.domain.member.Member;
 import com.example.myboard.domain.member.repository.MemberRepository;
+import com.example.myboard.global.login.dto.MemberDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import javax.transaction.Transactional;
+
 @Service
 @RequiredArgsConstructor
-public class LoginService implements UserDetailsService {
+public class LoginService implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
 
@@ -19,10 +23,24 @@ public class LoginService implements UserDetailsService {
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         Member member = memberRepository.findByUsername(username).orElseThrow(() -> new UsernameNotFoundException("아이디가 없습니다."));
 
-       return User.builder().username(member.getUsername())
-               .password(member.getPassword())
-               .roles(member.getRole().name())
-               .build();
+       return new MemberDetails(member.getId(), member.getUsername(), member.getPassword(), member.getRole());
+
+    }
+
+    /**
+     * 로그인 성공시, 저장된 해시의 work factor 가 현재 설정과 다르면 새로 해싱한 비밀번호로 교체
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        memberRepository.findByUsername(user.getUsername()).ifPresent(
+                member -> member.updateEncodedPassword(newPassword)
+        );
 
+        if (user instanceof MemberDetails) {
+            MemberDetails memberDetails = (MemberDetails) user;
+            return new MemberDetails(memberDetails.getMemberId(), memberDetails.getUsername(), newPassword, memberDetails.getRole());
+        }
+        return User.withUserDetails(user).password(newPassword).build();
     }
 }
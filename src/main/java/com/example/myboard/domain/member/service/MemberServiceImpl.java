@@ -8,6 +8,8 @@ import com.example.myboard.domain.member.exception.MemberException;
 import com.example.myboard.domain.member.exception.MemberExceptionType;
 import com.example.myboard.domain.member.exception.TestEnum;
 import com.example.myboard.domain.member.repository.MemberRepository;
+import com.example.myboard.domain.token.service.RefreshTokenService;
+import com.example.myboard.global.jwt.service.SecurityEpochService;
 import com.example.myboard.global.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -23,6 +25,8 @@ public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final SecurityEpochService securityEpochService;
+    private final RefreshTokenService refreshTokenService;
 
     @Override
     public void signUp(MemberSignUpDto memberSignUpDto) throws Exception {
@@ -56,6 +60,8 @@ public class MemberServiceImpl implements MemberService {
         }
 
         member.updatePassword(passwordEncoder, toBePassword);
+        securityEpochService.advance(member.getId());   // 이전에 발급된 AccessToken 무효화
+        refreshTokenService.deleteAllByMemberId(member.getId());   // 탈취된 RefreshToken 으로 새 AccessToken 을 받지 못하도록
     }
 
     @Override
@@ -66,6 +72,8 @@ public class MemberServiceImpl implements MemberService {
            throw new MemberException(MemberExceptionType.WRONG_PASSWORD);
         }
 
+        securityEpochService.advance(member.getId());
+        refreshTokenService.deleteAllByMemberId(member.getId());
         memberRepository.delete(member);
     }
 
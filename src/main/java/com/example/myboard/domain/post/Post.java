@@ -19,7 +19,9 @@ import java.util.List;
 @Builder
 public class Post {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    //== 시퀀스를 50 개씩 미리 받아 쓰므로(pooled) insert 를 JDBC batch 로 묶을 수 있다 ==//
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq_generator")
+    @SequenceGenerator(name = "post_seq_generator", sequenceName = "POST_SEQ", allocationSize = 50)
     @Column(name = "post_id")
     private Long id;
     @ManyToOne(fetch = FetchType.LAZY)
@@ -36,6 +38,10 @@ public class Post {
     @Column(length = 500)
     private String filePath;
 
+    //== 댓글 수, PostCommentCounter 가 SQL 로 모아서 반영하므로 조금 늦을 수 있다 (게시글 수정 때 이전 값으로 덮어쓰지 않게 updatable = false) ==//
+    @Column(nullable = false, updatable = false)
+    private long commentCount;
+
 
     //== 게시글을 삭제하면 달려있는 댓글 모두 삭제 ==//
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
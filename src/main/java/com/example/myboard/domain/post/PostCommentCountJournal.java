@@ -0,0 +1,40 @@
+package com.example.myboard.domain.post;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * POST.comment_count 에 반영한 증감 기록
+ * flush 한 번이 (flush_id, post_id) 행들로 남고, POST 갱신과 같은 트랜잭션에서 쓰인다.
+ * 같은 flush_id 를 다시 반영하려 하면 이미 있으므로 건너뛴다. (재시도해도 두 번 더해지지 않음)
+ * PostCommentCounter 가 JDBC 로 쓰고 지우며, 엔티티는 테이블 정의용이다.
+ */
+@Entity
+@Table(name = "POST_COMMENT_COUNT_JOURNAL", indexes = {
+        @Index(name = "uk_post_comment_count_journal", columnList = "flush_id, post_id", unique = true),
+        @Index(name = "idx_post_comment_count_journal_applied_at", columnList = "applied_at")
+})
+@Getter
+@NoArgsConstructor
+public class PostCommentCountJournal {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "journal_id")
+    private Long id;
+
+    @Column(name = "flush_id", nullable = false, length = 36)
+    private String flushId;
+
+    //== 게시글 삭제와 무관하게 남겨두므로 FK 는 두지 않음 ==//
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(nullable = false)
+    private long delta;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,8 @@
+package com.example.myboard.domain.post.repository;
+
+import com.example.myboard.domain.post.Post;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PostRepository extends JpaRepository<Post, Long> {
+
+}
@@ -0,0 +1,374 @@
+package com.example.myboard.domain.post.service;
+
+import com.example.myboard.global.scheduling.BackgroundJobRunner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글별 댓글 수(POST.comment_count)를 메모리에 모았다가 주기적으로 한 번에 반영
+ *
+ * - 댓글 등록/삭제는 게시글별 LongAdder 에 더하기만 한다. (게시글 행 락을 잡지 않음)
+ * - flush 는 (지금까지 더해진 값 - 이미 반영한 값) 을 게시글별로 모아 batch update 한 번으로 반영한다.
+ *   LongAdder 는 reset 하지 않으므로, flush 도중 들어온 증감도 다음 flush 에 빠짐없이 반영된다.
+ * - 반영할 묶음마다 flush_id 를 붙여 POST_COMMENT_COUNT_JOURNAL 에 같은 트랜잭션으로 기록한다.
+ *   커밋 여부를 모르는 실패 뒤에는 같은 flush_id 로 다시 시도하고, 이미 기록되어 있으면 건너뛴다. (멱등)
+ * - 서버가 flush 전에 죽으면 메모리의 증감은 사라지므로, reconcile 이 실제 댓글 수로 다시 맞춘다. (기동 후, 주기적으로)
+ *   reconcile 은 이 서버의 반영 전 증감만 알 수 있으므로 서버가 한 대일 때만 맞다.
+ *   여러 대로 운영하면 post.comment-count.reconcile.enabled 를 끄고, 필요할 때 모든 서버의 flush 가 끝난 뒤 직접 실행한다.
+ */
+@Slf4j
+@Component
+public class PostCommentCounter {
+
+    private static final String INSERT_JOURNAL_SQL =
+            "insert into post_comment_count_journal (flush_id, post_id, delta, applied_at) values (?, ?, ?, ?)";
+    private static final String EXISTS_JOURNAL_SQL =
+            "select count(*) from post_comment_count_journal where flush_id = ?";
+    private static final String UPDATE_POST_SQL =
+            "update post set comment_count = comment_count + ? where post_id = ?";
+    private static final String DELETE_JOURNAL_SQL =
+            "delete from post_comment_count_journal where applied_at < ?";
+    private static final String ACTUAL_COUNT_SQL =
+            "select p.post_id, p.comment_count, (select count(*) from comment c where c.post_id = p.post_id)" +
+            " from post p where p.post_id between ? and ?";
+    private static final String SET_COUNT_SQL =
+            "update post set comment_count = ? where post_id = ?";
+    private static final String MAX_POST_ID_SQL = "select max(post_id) from post";
+
+    //== 이 횟수만큼 연속으로 변화가 없는 게시글은 메모리에서 뺀다 ==//
+    private static final int EVICT_AFTER_IDLE_FLUSHES = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BackgroundJobRunner backgroundJobRunner;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final boolean reconcileEnabled;
+    private final long journalRetentionMillis;
+    private final int reconcileBatchSize;
+
+    private final ConcurrentHashMap<Long, Counter> counters = new ConcurrentHashMap<>();
+    private final List<Counter> evicted = new ArrayList<>();   // 맵에서 뺀 뒤에도 늦게 더해진 값이 있는지 몇 번 더 확인 (flushLock 안에서만)
+
+    //== flush, reconcile 은 한 번에 하나만 ==//
+    private final Object flushLock = new Object();
+    private Batch inFlight;     // 커밋 여부를 모르는 채로 실패한 묶음, 다음 flush 에서 같은 flush_id 로 다시 시도
+
+    public PostCommentCounter(JdbcTemplate jdbcTemplate,
+                              BackgroundJobRunner backgroundJobRunner,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${post.comment-count.enabled:true}") boolean enabled,
+                              @Value("${post.comment-count.reconcile.enabled:true}") boolean reconcileEnabled,
+                              @Value("${post.comment-count.journal-retention-hours:24}") long journalRetentionHours,
+                              @Value("${post.comment-count.reconcile.batch-size:1000}") int reconcileBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.backgroundJobRunner = backgroundJobRunner;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.reconcileEnabled = reconcileEnabled;
+        this.journalRetentionMillis = journalRetentionHours * 60 * 60 * 1000;
+        this.reconcileBatchSize = Math.max(1, reconcileBatchSize);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋된 뒤에 더한다. (롤백된 댓글은 세지 않음)
+     */
+    public void addAfterCommit(Long postId, long delta) {
+        if (!enabled || postId == null || delta == 0) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(postId, delta);
+                }
+            });
+        } else {
+            add(postId, delta);
+        }
+    }
+
+    public void add(Long postId, long delta) {
+        if (!enabled) {
+            return;
+        }
+        counters.computeIfAbsent(postId, Counter::new).adder.add(delta);
+    }
+
+    /**
+     * 아직 반영되지 않은 증감 (화면에 보여줄 때 POST.comment_count 에 더하면 된다)
+     */
+    public long pendingDelta(Long postId) {
+        Counter counter = counters.get(postId);
+        return counter == null ? 0 : counter.adder.sum() - counter.flushed;
+    }
+
+    public int trackedPostCount() {
+        return counters.size();
+    }
+
+    @Scheduled(fixedDelayString = "${post.comment-count.flush-interval-ms:1000}")
+    public void flush() {
+        synchronized (flushLock) {
+            if (inFlight == null) {
+                inFlight = collect();
+            }
+            if (inFlight.isEmpty()) {
+                inFlight = null;
+                return;
+            }
+
+            try {
+                apply(inFlight);
+                inFlight.markFlushed();
+                inFlight = null;
+            } catch (DataAccessException e) {
+                log.error("[post] 댓글 수 반영에 실패했습니다. 다음 flush 에서 다시 시도합니다. flushId:{}, count:{}",
+                        inFlight.flushId, inFlight.postIds.size(), e);
+            }
+        }
+    }
+
+    /**
+     * 반영할 증감을 모은다. 오래 변화가 없는 게시글은 여기서 메모리에서 뺀다.
+     * 빼기 직전에 Counter 를 얻은 add() 가 뺀 뒤에 더할 수 있으므로, 뺀 Counter 도 EVICT_AFTER_IDLE_FLUSHES 번 더 확인하고 버린다.
+     */
+    private Batch collect() {
+        Batch batch = new Batch(UUID.randomUUID().toString());
+
+        Iterator<Counter> evictedIterator = evicted.iterator();
+        while (evictedIterator.hasNext()) {
+            Counter counter = evictedIterator.next();
+            long sum = counter.adder.sum();
+            if (sum != counter.flushed) {
+                counter.idleFlushes = 0;
+                batch.add(counter.postId, counter, sum);
+            } else if (++counter.idleFlushes >= EVICT_AFTER_IDLE_FLUSHES) {
+                evictedIterator.remove();
+            }
+        }
+
+        Iterator<Map.Entry<Long, Counter>> iterator = counters.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Counter> entry = iterator.next();
+            Counter counter = entry.getValue();
+
+            long sum = counter.adder.sum();
+            if (sum != counter.flushed) {
+                counter.idleFlushes = 0;
+                batch.add(entry.getKey(), counter, sum);
+                continue;
+            }
+
+            if (++counter.idleFlushes >= EVICT_AFTER_IDLE_FLUSHES && counters.remove(entry.getKey(), counter)) {
+                counter.idleFlushes = 0;
+                evicted.add(counter);
+
+                // 빼는 사이에 더해진 값이 있으면 이번에 같이 반영
+                long residual = counter.adder.sum();
+                if (residual != counter.flushed) {
+                    batch.add(entry.getKey(), counter, residual);
+                }
+            }
+        }
+        return batch;
+    }
+
+    private void apply(Batch batch) {
+        apply(batch.flushId, batch.postIds, batch.deltas);
+    }
+
+    // 같은 flush_id 가 이미 기록되어 있으면 이전 시도가 커밋된 것이므로 건너뛴다
+    void apply(String flushId, List<Long> postIds, List<Long> deltas) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Integer applied = jdbcTemplate.queryForObject(EXISTS_JOURNAL_SQL, Integer.class, flushId);
+            if (applied != null && applied > 0) {
+                return;
+            }
+
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(INSERT_JOURNAL_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ps.setString(1, flushId);
+                    ps.setLong(2, postIds.get(i));
+                    ps.setLong(3, deltas.get(i));
+                    ps.setTimestamp(4, now);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return postIds.size();
+                }
+            });
+            jdbcTemplate.batchUpdate(UPDATE_POST_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ps.setLong(1, deltas.get(i));
+                    ps.setLong(2, postIds.get(i));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return postIds.size();
+                }
+            });
+        });
+    }
+
+    //== journal 정리, reconcile 은 오래 걸릴 수 있으므로 BackgroundJobRunner 에서 ==//
+    @Scheduled(fixedDelayString = "${post.comment-count.journal-prune-interval-ms:3600000}")
+    public void scheduledPruneJournal() {
+        backgroundJobRunner.submit("post-comment-count-journal-prune", this::pruneJournal);
+    }
+
+    public void pruneJournal() {
+        Timestamp threshold = new Timestamp(System.currentTimeMillis() - journalRetentionMillis);
+        int deleted = jdbcTemplate.update(DELETE_JOURNAL_SQL, threshold);
+        if (deleted > 0) {
+            log.info("[post] 댓글 수 journal {}건 정리", deleted);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${post.comment-count.reconcile.initial-delay-ms:60000}",
+            fixedDelayString = "${post.comment-count.reconcile.interval-ms:86400000}")
+    public void scheduledReconcile() {
+        if (reconcileEnabled) {
+            backgroundJobRunner.submit("post-comment-count-reconcile", this::reconcile);
+        }
+    }
+
+    /**
+     * POST.comment_count 를 실제 댓글 수로 다시 맞춘다. (post_id 범위를 나누어 범위마다 별도 트랜잭션)
+     * 아직 반영되지 않은 증감은 다음 flush 에 더해지므로, 그만큼 빼고 저장한다.
+     * 다른 서버의 반영 전 증감은 알 수 없으므로 서버가 한 대일 때만 맞다. (여러 대면 두 번 더해진다)
+     * @return 바로잡은 게시글 수
+     */
+    public long reconcile() {
+        if (!enabled) {
+            return 0;
+        }
+
+        Long maxId = jdbcTemplate.queryForObject(MAX_POST_ID_SQL, Long.class);
+        if (maxId == null) {
+            return 0;
+        }
+
+        long repaired = 0;
+        for (long start = 1; start <= maxId; start += reconcileBatchSize) {
+            long fromId = start;
+            long toId = Math.min(maxId, start + reconcileBatchSize - 1);
+
+            // 범위 하나를 맞추는 동안만 flush 를 막는다 (pendingDelta 와 DB 값이 같은 시점이 되도록)
+            synchronized (flushLock) {
+                // 커밋 여부를 모르는 묶음이 있으면 pendingDelta 를 믿을 수 없으므로 다음으로 미룬다
+                if (inFlight != null) {
+                    break;
+                }
+                Integer count = transactionTemplate.execute(status -> reconcileRange(fromId, toId));
+                repaired += count == null ? 0 : count;
+            }
+        }
+
+        if (repaired > 0) {
+            log.warn("[post] 댓글 수 불일치 {}건 수정 (maxId={})", repaired, maxId);
+        }
+        return repaired;
+    }
+
+    // flushLock 안에서 호출
+    private int reconcileRange(long fromId, long toId) {
+        // 맵에서 뺀 Counter 에 늦게 더해진 값도 다음 flush 에 더해진다
+        Map<Long, Long> evictedPending = new HashMap<>();
+        for (Counter counter : evicted) {
+            long pending = counter.adder.sum() - counter.flushed;
+            if (pending != 0) {
+                evictedPending.merge(counter.postId, pending, Long::sum);
+            }
+        }
+
+        List<long[]> fixes = new ArrayList<>();
+        jdbcTemplate.query(ACTUAL_COUNT_SQL, (RowCallbackHandler) rs -> {
+            long postId = rs.getLong(1);
+            long target = rs.getLong(3) - pendingDelta(postId) - evictedPending.getOrDefault(postId, 0L);
+            if (rs.getLong(2) != target) {
+                fixes.add(new long[]{postId, target});
+            }
+        }, fromId, toId);
+
+        if (fixes.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(SET_COUNT_SQL, fixes, fixes.size(), (ps, fix) -> {
+            ps.setLong(1, fix[1]);
+            ps.setLong(2, fix[0]);
+        });
+        return fixes.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private static final class Counter {
+        private final Long postId;
+        private final LongAdder adder = new LongAdder();
+        private volatile long flushed;      // flushLock 안에서만 바뀐다
+        private int idleFlushes;
+
+        private Counter(Long postId) {
+            this.postId = postId;
+        }
+    }
+
+    private static final class Batch {
+        private final String flushId;
+        private final List<Long> postIds = new ArrayList<>();
+        private final List<Long> deltas = new ArrayList<>();
+        private final Map<Counter, Long> flushedTo = new HashMap<>();
+
+        private Batch(String flushId) {
+            this.flushId = flushId;
+        }
+
+        private void add(Long postId, Counter counter, long sum) {
+            postIds.add(postId);
+            deltas.add(sum - counter.flushed);
+            flushedTo.put(counter, sum);
+        }
+
+        private boolean isEmpty() {
+            return postIds.isEmpty();
+        }
+
+        private void markFlushed() {
+            flushedTo.forEach((counter, sum) -> counter.flushed = sum);
+        }
+    }
+}
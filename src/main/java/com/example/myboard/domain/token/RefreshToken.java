@@ -0,0 +1,52 @@
+package com.example.myboard.domain.token;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * RefreshToken 저장소
+ * 토큰 원문 대신 SHA-256 digest 로 조회하며, 회원 한 명이 여러 기기에서 로그인하면 여러 개를 가질 수 있다.
+ */
+@Entity
+@Table(name = "REFRESH_TOKEN", indexes = {
+        @Index(name = "uk_refresh_token_hash", columnList = "token_hash", unique = true),
+        @Index(name = "idx_refresh_token_member", columnList = "member_id"),
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor
+public class RefreshToken {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "refresh_token_id")
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false, length = 36)
+    private String jti;
+
+    //== 회원 탈퇴시 함께 지우므로 FK 는 두지 않음 ==//
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder
+    public RefreshToken(String tokenHash, String jti, Long memberId, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.jti = jti;
+        this.memberId = memberId;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.myboard.domain.token;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 로그아웃 등으로 폐기된 토큰의 jti
+ * 토큰이 만료되면 더 이상 막을 필요가 없으므로 expiresAt 이 지나면 삭제
+ * id(jti) 를 직접 정하므로 Persistable 로 새 엔티티임을 알려 save 가 merge (select + insert) 대신 persist 하도록 한다.
+ */
+@Entity
+@Table(name = "REVOKED_TOKEN", indexes = {
+        @Index(name = "idx_revoked_token_revoked_at", columnList = "revoked_at"),
+        @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor
+public class RevokedToken implements Persistable<String> {
+
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    @Builder
+    public RevokedToken(String jti, LocalDateTime expiresAt, LocalDateTime revokedAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+        this.revokedAt = revokedAt;
+    }
+
+    @Override
+    public String getId() {
+        return jti;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
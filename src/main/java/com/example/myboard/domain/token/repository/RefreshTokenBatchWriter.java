@@ -0,0 +1,179 @@
+package com.example.myboard.domain.token.repository;
+
+import com.example.myboard.domain.token.RefreshToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 로그인마다 REFRESH_TOKEN 에 한 건씩 insert 하는 대신, 큐에 모아 JDBC batch insert (write-behind)
+ * - 동시에 로그인한 요청들의 insert 가 batchSize 개씩 한 번의 batch 로 나간다.
+ * - 아직 쓰이지 않은 토큰은 pending 에서 조회되므로, 로그인 직후 재발급 요청도 성공한다.
+ * - 쓰이기 전에 삭제(로그아웃, 탈퇴)된 토큰은 insert 하지 않는다.
+ * - batch 가 실패하면 한 건씩 다시 저장하고, 그래도 저장하지 못한 토큰은 pending 에 남겨 다음 flush 에서 다시 시도한다. (만료되면 버림)
+ * 서버가 비정상 종료되면 아직 쓰이지 않은 토큰은 사라지고, 해당 기기는 다시 로그인해야 한다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenBatchWriter {
+
+    private static final String INSERT_SQL =
+            "insert into refresh_token (token_hash, jti, member_id, expires_at) values (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxPending;
+
+    private final ConcurrentLinkedQueue<RefreshToken> queue = new ConcurrentLinkedQueue<>();
+    private final ConcurrentHashMap<String, RefreshToken> pending = new ConcurrentHashMap<>();
+
+    //== batch insert 와 삭제가 엇갈려 삭제된 토큰이 다시 쓰이지 않도록 ==//
+    private final Object writeLock = new Object();
+
+    public RefreshTokenBatchWriter(JdbcTemplate jdbcTemplate,
+                                   @Value("${jwt.refresh.write-behind.enabled:false}") boolean enabled,
+                                   @Value("${jwt.refresh.write-behind.batch-size:100}") int batchSize,
+                                   @Value("${jwt.refresh.write-behind.max-pending:10000}") int maxPending) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * 꺼져 있거나 큐가 가득 차면 false (호출한 쪽에서 바로 저장)
+     */
+    public boolean offer(RefreshToken token) {
+        if (!enabled || pending.size() >= maxPending) {
+            return false;
+        }
+
+        pending.put(token.getTokenHash(), token);
+        queue.offer(token);
+        return true;
+    }
+
+    public Optional<RefreshToken> findPending(String tokenHash) {
+        return Optional.ofNullable(pending.get(tokenHash));
+    }
+
+    public void removePending(String tokenHash) {
+        synchronized (writeLock) {
+            pending.remove(tokenHash);
+        }
+    }
+
+    public void removePendingByMemberId(Long memberId) {
+        synchronized (writeLock) {
+            pending.values().removeIf(token -> memberId.equals(token.getMemberId()));
+        }
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh.write-behind.flush-interval-ms:50}")
+    public void flush() {
+        List<RefreshToken> batch = new ArrayList<>(batchSize);
+        List<RefreshToken> retry = new ArrayList<>();
+
+        RefreshToken token;
+        while ((token = queue.poll()) != null) {
+            batch.add(token);
+            if (batch.size() == batchSize) {
+                write(batch, retry);
+                batch.clear();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            write(batch, retry);
+        }
+
+        // 저장하지 못한 토큰은 pending 에 그대로 두고 (조회는 계속 됨) 다음 flush 에서 다시 시도
+        queue.addAll(retry);
+    }
+
+    private void write(List<RefreshToken> batch, List<RefreshToken> retry) {
+        LocalDateTime now = LocalDateTime.now();
+
+        synchronized (writeLock) {
+            List<RefreshToken> live = new ArrayList<>(batch.size());
+            for (RefreshToken token : batch) {
+                if (pending.get(token.getTokenHash()) != token) {
+                    continue;
+                }
+                if (token.isExpired(now)) {
+                    pending.remove(token.getTokenHash(), token);
+                    continue;
+                }
+                live.add(token);
+            }
+
+            if (live.isEmpty()) {
+                return;
+            }
+
+            try {
+                insert(live);
+                live.forEach(this::written);
+            } catch (DataAccessException e) {
+                log.warn("RefreshToken 일괄 저장에 실패했습니다. 한 건씩 다시 저장합니다. count:{}", live.size(), e);
+                insertOneByOne(live, retry);
+            }
+        }
+    }
+
+    // batch 중 일부는 이미 저장되었을 수 있으므로, 이미 있는 토큰은 저장된 것으로 본다
+    private void insertOneByOne(List<RefreshToken> tokens, List<RefreshToken> retry) {
+        for (int i = 0; i < tokens.size(); i++) {
+            RefreshToken token = tokens.get(i);
+            try {
+                insert(Collections.singletonList(token));
+                written(token);
+            } catch (DuplicateKeyException e) {
+                written(token);
+            } catch (DataAccessException e) {
+                // DB 에 닿지 않는 경우 나머지도 실패하므로 모두 다음 flush 로 미룬다 (실패한 토큰은 맨 뒤로)
+                log.error("RefreshToken 저장에 실패했습니다. 다음 flush 에서 다시 시도합니다. count:{}", tokens.size() - i, e);
+                retry.addAll(tokens.subList(i + 1, tokens.size()));
+                retry.add(token);
+                return;
+            }
+        }
+    }
+
+    private void insert(List<RefreshToken> tokens) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, tokens, tokens.size(), (ps, token) -> {
+            ps.setString(1, token.getTokenHash());
+            ps.setString(2, token.getJti());
+            ps.setLong(3, token.getMemberId());
+            ps.setTimestamp(4, Timestamp.valueOf(token.getExpiresAt()));
+        });
+    }
+
+    private void written(RefreshToken token) {
+        pending.remove(token.getTokenHash(), token);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.myboard.domain.token.service;
+
+import java.util.Optional;
+
+public interface RefreshTokenService {
+
+    void save(Long memberId, String refreshToken, String jti, long expiresAtMillis);
+
+    /**
+     * 저장된, 만료되지 않은 RefreshToken 의 회원 id
+     */
+    Optional<Long> findMemberId(String refreshToken);
+
+    void delete(String refreshToken);
+
+    void deleteAllByMemberId(Long memberId);
+
+    int purgeExpired();
+}
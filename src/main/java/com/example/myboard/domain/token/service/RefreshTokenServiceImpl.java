@@ -0,0 +1,112 @@
+package com.example.myboard.domain.token.service;
+
+import com.example.myboard.domain.token.RefreshToken;
+import com.example.myboard.domain.token.repository.RefreshTokenBatchWriter;
+import com.example.myboard.domain.token.repository.RefreshTokenRepository;
+import com.example.myboard.global.scheduling.BackgroundJobRunner;
+import com.example.myboard.global.util.TokenDigestUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.transaction.Transactional;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenBatchWriter refreshTokenBatchWriter;
+    private final BackgroundJobRunner backgroundJobRunner;
+
+    @Value("${jwt.refresh.purge-batch-size:500}")
+    private int purgeBatchSize;
+
+    /**
+     * write-behind 가 켜져 있으면 큐에 넣고 바로 반환 (모아서 JDBC batch insert), 아니면 바로 저장
+     * 큐에 넣을 때는 트랜잭션도 필요 없으므로 SUPPORTS
+     */
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public void save(Long memberId, String refreshToken, String jti, long expiresAtMillis) {
+        RefreshToken token = RefreshToken.builder()
+                .tokenHash(TokenDigestUtil.sha256Hex(refreshToken))
+                .jti(jti)
+                .memberId(memberId)
+                .expiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMillis), ZoneId.systemDefault()))
+                .build();
+
+        if (!refreshTokenBatchWriter.offer(token)) {
+            refreshTokenRepository.save(token);
+        }
+    }
+
+    @Override
+    public Optional<Long> findMemberId(String refreshToken) {
+        LocalDateTime now = LocalDateTime.now();
+        String tokenHash = TokenDigestUtil.sha256Hex(refreshToken);
+
+        //== 아직 DB 에 쓰이지 않은 토큰부터 확인 ==//
+        Optional<RefreshToken> token = refreshTokenBatchWriter.findPending(tokenHash);
+        if (!token.isPresent()) {
+            token = refreshTokenRepository.findByTokenHash(tokenHash);
+        }
+
+        return token.filter(t -> !t.isExpired(now))
+                .map(RefreshToken::getMemberId);
+    }
+
+    @Override
+    public void delete(String refreshToken) {
+        String tokenHash = TokenDigestUtil.sha256Hex(refreshToken);
+
+        refreshTokenBatchWriter.removePending(tokenHash);
+        refreshTokenRepository.deleteByTokenHash(tokenHash);
+    }
+
+    @Override
+    public void deleteAllByMemberId(Long memberId) {
+        refreshTokenBatchWriter.removePendingByMemberId(memberId);
+        refreshTokenRepository.deleteAllByMemberId(memberId);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh.purge-interval-ms:600000}")
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public void scheduledPurgeExpired() {
+        backgroundJobRunner.submit("refresh-token-purge", this::purgeExpired);
+    }
+
+    /**
+     * 만료된 RefreshToken 을 purgeBatchSize 개씩 나누어 삭제 (스케줄러에서 호출되면 배치마다 별도 트랜잭션)
+     */
+    @Override
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = 0;
+
+        List<Long> expiredIds;
+        do {
+            expiredIds = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, purgeBatchSize));
+            if (!expiredIds.isEmpty()) {
+                refreshTokenRepository.deleteAllByIdInBatch(expiredIds);
+                purged += expiredIds.size();
+            }
+        } while (expiredIds.size() == purgeBatchSize);
+
+        if (purged > 0) {
+            log.info("만료된 RefreshToken 을 삭제했습니다. count:{}", purged);
+        }
+        return purged;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.myboard.domain.token.service;
+
+public interface TokenRevocationService {
+
+    void revoke(String jti, long expiresAtMillis);
+
+    void sync();
+
+    int purgeExpired();
+}
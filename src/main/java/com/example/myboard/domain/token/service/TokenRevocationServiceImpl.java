@@ -0,0 +1,93 @@
+package com.example.myboard.domain.token.service;
+
+import com.example.myboard.domain.token.RevokedToken;
+import com.example.myboard.domain.token.repository.RevokedTokenRepository;
+import com.example.myboard.global.jwt.cache.RevokedTokenCache;
+import com.example.myboard.global.scheduling.BackgroundJobRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.transaction.Transactional;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 폐기된 토큰(jti) 관리
+ * - REVOKED_TOKEN 테이블이 원본, 각 노드는 RevokedTokenCache 에 메모리 사본을 둔다.
+ * - 다른 노드에서 폐기한 토큰은 revokedAt 기준 증분 동기화(sync) 로 가져온다.
+ * - 토큰이 만료되면 메모리, DB 에서 모두 정리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+    // 동기화 구간을 겹치게 하여 노드 간 시계 오차, 커밋 지연으로 빠지는 jti 가 없도록 함
+    private static final long SYNC_OVERLAP_SECONDS = 5;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final RevokedTokenCache revokedTokenCache;
+    private final BackgroundJobRunner backgroundJobRunner;
+
+    private volatile LocalDateTime lastSyncedAt;
+
+    @Override
+    public void revoke(String jti, long expiresAtMillis) {
+        // 이미 폐기된 토큰은 다시 insert 하지 않는다 (persist 이므로 중복 키)
+        if (jti == null || expiresAtMillis <= System.currentTimeMillis() || revokedTokenCache.isRevoked(jti)) {
+            return;
+        }
+
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .expiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMillis), ZoneId.systemDefault()))
+                .revokedAt(LocalDateTime.now())
+                .build());
+        revokedTokenCache.add(jti, expiresAtMillis);
+    }
+
+    /**
+     * 처음에는 만료되지 않은 jti 를 모두, 이후에는 마지막 동기화 이후 폐기된 jti 만 가져온다.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:5000}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+
+        if (lastSyncedAt == null) {
+            revokedTokenRepository.findByExpiresAtAfter(now).forEach(this::addToCache);
+        } else {
+            revokedTokenRepository.findByRevokedAtGreaterThanEqual(lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS))
+                    .forEach(this::addToCache);
+        }
+        lastSyncedAt = now;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:600000}")
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public void scheduledPurgeExpired() {
+        backgroundJobRunner.submit("revoked-token-purge", this::purgeExpired);
+    }
+
+    /**
+     * 만료된 jti 를 메모리, DB 에서 삭제 (스케줄러에서 호출되면 삭제 쿼리만 트랜잭션)
+     */
+    @Override
+    public int purgeExpired() {
+        revokedTokenCache.removeExpired();
+        int purged = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+
+        if (purged > 0) {
+            log.info("만료된 폐기 토큰을 삭제했습니다. count:{}", purged);
+        }
+        return purged;
+    }
+
+    private void addToCache(RevokedToken revokedToken) {
+        revokedTokenCache.add(revokedToken.getJti(), revokedToken.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
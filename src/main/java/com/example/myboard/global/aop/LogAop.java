@@ -2,19 +2,32 @@ package com.example.myboard.global.aop;
 
 import com.example.myboard.global.log.LogTrace;
 import com.example.myboard.global.log.TraceStatus;
+import com.example.myboard.global.monitor.MethodMetrics;
+import com.example.myboard.global.monitor.MethodMetricsRegistry;
+import com.example.myboard.global.monitor.trace.RequestTraceRecorder;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class LogAop {
 
     private final LogTrace logTrace;
+    private final MethodMetricsRegistry methodMetricsRegistry;
+    private final RequestTraceRecorder requestTraceRecorder;
+
+    //== 메서드별 toShortString 결과 등을 캐시 (호출마다 문자열을 만들지 않도록) ==//
+    private final ConcurrentHashMap<Method, TracedMethod> tracedMethodCache = new ConcurrentHashMap<>();
 
     @Pointcut("execution(* com.example.myboard.domain..*Service*.*(..))")
     public void allService(){};
@@ -28,19 +41,64 @@ public class LogAop {
     @Around("allService() || allRepository() || allController()")
     public Object logTrace(ProceedingJoinPoint joinPoint) throws Throwable {
         TraceStatus status = null;
+        TracedMethod tracedMethod = tracedMethod(joinPoint);
+
+        MethodMetrics metrics = tracedMethod.metrics;
+        long startNanos = metrics == null ? 0L : metrics.start();
+        requestTraceRecorder.enter(tracedMethod.signature, tracedMethod.repository);
 
         try {
-            status = logTrace.begin(joinPoint.getSignature().toShortString());
+            status = logTrace.begin(tracedMethod.signature);
             Object result = joinPoint.proceed();
 
             logTrace.end(status);
+            requestTraceRecorder.exit(false);
+            if (metrics != null) {
+                metrics.success(startNanos);
+            }
 
             return result;
         } catch (Throwable e) {
             e.printStackTrace();
             logTrace.exception(status, e);
+            requestTraceRecorder.exit(true);
+            if (metrics != null) {
+                metrics.failure(startNanos);
+            }
             throw e;
         }
     }
 
+    private TracedMethod tracedMethod(ProceedingJoinPoint joinPoint) {
+        Signature signature = joinPoint.getSignature();
+        if (!(signature instanceof MethodSignature)) {
+            return newTracedMethod(signature);
+        }
+
+        Method method = ((MethodSignature) signature).getMethod();
+        TracedMethod tracedMethod = tracedMethodCache.get(method);
+        if (tracedMethod == null) {
+            tracedMethod = newTracedMethod(signature);
+            tracedMethodCache.putIfAbsent(method, tracedMethod);
+        }
+        return tracedMethod;
+    }
+
+    private TracedMethod newTracedMethod(Signature signature) {
+        String shortSignature = signature.toShortString();
+        boolean repository = signature.getDeclaringTypeName().contains("Repository");
+        return new TracedMethod(shortSignature, repository, methodMetricsRegistry.get(shortSignature));
+    }
+
+    private static final class TracedMethod {
+        private final String signature;
+        private final boolean repository;
+        private final MethodMetrics metrics;
+
+        private TracedMethod(String signature, boolean repository, MethodMetrics metrics) {
+            this.signature = signature;
+            this.repository = repository;
+            this.metrics = metrics;
+        }
+    }
 }
@@ -0,0 +1,65 @@
+package com.example.myboard.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * IDENTITY 로 쌓인 기존 데이터에서 시퀀스로 옮길 때, 시퀀스가 기존 id 뒤에서 시작하도록 맞춘다.
+ * (src/main/resources/db/identity-to-sequence.sql 을 먼저 실행)
+ *
+ * pooled 방식은 시퀀스 값 v 를 받으면 (v - allocationSize, v] 를 쓰므로, v 가 max(id) + allocationSize 보다 작으면 다시 시작시킨다.
+ * 이미 충분히 앞서 있으면 건드리지 않으므로 여러 번 실행해도 된다.
+ */
+@Slf4j
+@Component
+public class IdSequenceAligner implements ApplicationRunner {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    //== {테이블, id 컬럼, 시퀀스} ==//
+    private static final String[][] SEQUENCES = {
+            {"member", "member_id", "member_seq"},
+            {"post", "post_id", "post_seq"},
+            {"comment", "comment_id", "comment_seq"},
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public IdSequenceAligner(JdbcTemplate jdbcTemplate,
+                             @Value("${jpa.sequence.align-on-startup:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        for (String[] sequence : SEQUENCES) {
+            align(sequence[0], sequence[1], sequence[2]);
+        }
+    }
+
+    private void align(String table, String idColumn, String sequence) {
+        Long maxId = jdbcTemplate.queryForObject("select max(" + idColumn + ") from " + table, Long.class);
+        if (maxId == null) {
+            return;
+        }
+
+        Long next = jdbcTemplate.queryForObject("select next value for " + sequence, Long.class);
+        if (next != null && next >= maxId + ALLOCATION_SIZE) {
+            return;
+        }
+
+        long restartWith = maxId + ALLOCATION_SIZE + 1;
+        jdbcTemplate.execute("alter sequence " + sequence + " restart with " + restartWith);
+        log.warn("[sequence] {} 를 {} 부터 다시 시작합니다. (max {}={})", sequence, restartWith, idColumn, maxId);
+    }
+}
@@ -2,25 +2,43 @@ package com.example.myboard.global.config;
 
 import com.example.myboard.domain.member.repository.MemberRepository;
 import com.example.myboard.domain.member.service.LoginService;
+import com.example.myboard.domain.token.service.RefreshTokenService;
+import com.example.myboard.domain.token.service.TokenRevocationService;
+import com.example.myboard.global.jwt.cache.RevokedTokenCache;
+import com.example.myboard.global.jwt.cache.VerifiedTokenCache;
 import com.example.myboard.global.jwt.service.JwtService;
+import com.example.myboard.global.jwt.service.SecurityEpochService;
+import com.example.myboard.global.log.AsyncLogSink;
 import com.example.myboard.global.login.filter.JsonUsernamePasswordAuthenticationFilter;
 import com.example.myboard.global.login.filter.JwtAuthenticationProcessingFilter;
+import com.example.myboard.global.login.handler.JwtLogoutHandler;
 import com.example.myboard.global.login.handler.LoginFailureHandler;
 import com.example.myboard.global.login.handler.LoginSuccessJWTProviderHandler;
+import com.example.myboard.global.login.limiter.LoginAttemptLimiter;
+import com.example.myboard.global.password.BcryptStrengthCalibrator;
+import com.example.myboard.global.password.BoundedPasswordEncoder;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.authentication.logout.HttpStatusReturningLogoutSuccessHandler;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Configuration
 @RequiredArgsConstructor
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
@@ -29,6 +47,34 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
     private final MemberRepository memberRepository;
     private final ObjectMapper objectMapper;
     private final JwtService jwtService;
+    private final SecurityEpochService securityEpochService;
+    private final RefreshTokenService refreshTokenService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RevokedTokenCache revokedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final AsyncLogSink asyncLogSink;
+
+    @Value("${login.max-body-bytes:2048}")
+    private int loginMaxBodyBytes;
+
+    @Value("${password.hashing.threads:4}")
+    private int passwordHashingThreads;
+
+    @Value("${password.hashing.queue-capacity:100}")
+    private int passwordHashingQueueCapacity;
+
+    @Value("${password.hashing.timeout-millis:2000}")
+    private long passwordHashingTimeoutMillis;
+
+    @Value("${password.hashing.target-millis:250}")
+    private long passwordHashingTargetMillis;
+
+    @Value("${password.hashing.min-strength:10}")
+    private int passwordHashingMinStrength;
+
+    @Value("${password.hashing.max-strength:14}")
+    private int passwordHashingMaxStrength;
 
     @Override
     protected void configure(HttpSecurity http) throws Exception {
@@ -41,7 +87,12 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .and()
                 .authorizeRequests()
                 .antMatchers("/login", "/signUp", "/").permitAll()
-                .anyRequest().authenticated();
+                .anyRequest().authenticated()
+
+                .and()
+                .logout()
+                .addLogoutHandler(jwtLogoutHandler())
+                .logoutSuccessHandler(new HttpStatusReturningLogoutSuccessHandler(HttpStatus.OK));
 
         http.addFilterAfter(jsonUsernamePasswordLoginFilter(), LogoutFilter.class);*/
 
@@ -54,16 +105,34 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .and()
                 .authorizeRequests()
                 .antMatchers("/login", "/signUp", "/").permitAll()
-                .anyRequest().authenticated();
+                .antMatchers("/monitor/**").hasRole("ADMIN")
+                .antMatchers("/post/*/comments/bulk", "/post/*/comments/export").hasRole("ADMIN")
+                .antMatchers(HttpMethod.DELETE, "/comment/*/subtree").hasRole("ADMIN")
+                .anyRequest().authenticated()
+
+                .and()
+                .logout()
+                .addLogoutHandler(jwtLogoutHandler())
+                .logoutSuccessHandler(new HttpStatusReturningLogoutSuccessHandler(HttpStatus.OK));
 
         http.addFilterAfter(jsonUsernamePasswordLoginFilter(), LogoutFilter.class);
         http.addFilterBefore(jwtAuthenticationProcessingFilter(), JsonUsernamePasswordAuthenticationFilter.class);
 
     }
 
+    /**
+     * bcrypt 는 전용 스레드 풀에서 실행 (요청 스레드를 점유하지 않음)
+     * work factor 는 기동시 target-millis 에 맞추어 보정
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder() {
+        int strength = BcryptStrengthCalibrator.calibrate(passwordHashingTargetMillis, passwordHashingMinStrength, passwordHashingMaxStrength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new BCryptPasswordEncoder(strength));
+
+        return new BoundedPasswordEncoder(new DelegatingPasswordEncoder("bcrypt", encoders), strength,
+                passwordHashingThreads, passwordHashingQueueCapacity, passwordHashingTimeoutMillis);
     }
 
     @Bean
@@ -71,23 +140,29 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setPasswordEncoder(passwordEncoder());
         provider.setUserDetailsService(loginService);
+        provider.setUserDetailsPasswordService(loginService);   // work factor 가 다르면 로그인 성공시 재해싱
 
         return new ProviderManager(provider);
     }
 
     @Bean
     public LoginSuccessJWTProviderHandler loginSuccessJWTProviderHandler() {
-        return new LoginSuccessJWTProviderHandler(jwtService, memberRepository);
+        return new LoginSuccessJWTProviderHandler(jwtService, memberRepository, refreshTokenService, asyncLogSink);
+    }
+
+    @Bean
+    public JwtLogoutHandler jwtLogoutHandler() {
+        return new JwtLogoutHandler(jwtService, refreshTokenService, tokenRevocationService, asyncLogSink);
     }
 
     @Bean
     public LoginFailureHandler loginFailureHandler() {
-        return new LoginFailureHandler();
+        return new LoginFailureHandler(asyncLogSink);
     }
 
     @Bean
     public JsonUsernamePasswordAuthenticationFilter jsonUsernamePasswordLoginFilter() {
-        JsonUsernamePasswordAuthenticationFilter jsonUsernamePasswordLoginFilter = new JsonUsernamePasswordAuthenticationFilter(objectMapper);
+        JsonUsernamePasswordAuthenticationFilter jsonUsernamePasswordLoginFilter = new JsonUsernamePasswordAuthenticationFilter(objectMapper, loginAttemptLimiter, loginMaxBodyBytes);
         jsonUsernamePasswordLoginFilter.setAuthenticationManager(authenticationManager());
         jsonUsernamePasswordLoginFilter.setAuthenticationSuccessHandler(loginSuccessJWTProviderHandler());
         jsonUsernamePasswordLoginFilter.setAuthenticationFailureHandler(loginFailureHandler());
@@ -97,7 +172,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 
     @Bean
     public JwtAuthenticationProcessingFilter jwtAuthenticationProcessingFilter() {
-        JwtAuthenticationProcessingFilter jsonUsernamePasswordLoginFilter = new JwtAuthenticationProcessingFilter(jwtService, memberRepository);
+        JwtAuthenticationProcessingFilter jsonUsernamePasswordLoginFilter = new JwtAuthenticationProcessingFilter(jwtService, memberRepository, securityEpochService, refreshTokenService, verifiedTokenCache, revokedTokenCache);
 
         return jsonUsernamePasswordLoginFilter;
     }
@@ -0,0 +1,74 @@
+package com.example.myboard.global.jwt.cache;
+
+import com.example.myboard.global.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 토큰(jti) 의 메모리 사본 : jti -> 만료시각 + 앞단 Bloom filter
+ * 요청마다 호출되므로 폐기되지 않은 토큰은 Bloom filter 에서 바로 false 를 반환한다.
+ * 원본은 REVOKED_TOKEN 테이블이며 TokenRevocationService 가 채운다.
+ */
+@Component
+public class RevokedTokenCache {
+
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    private final Map<String, Long> revokedJtis = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+
+    public RevokedTokenCache(@Value("${jwt.revocation.expected-insertions:100000}") int expectedInsertions,
+                             @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+
+        Long expiresAtMillis = revokedJtis.get(jti);
+        return expiresAtMillis != null && expiresAtMillis > System.currentTimeMillis();
+    }
+
+    public void add(String jti, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedJtis.put(jti, expiresAtMillis);
+        bloomFilter.put(jti);
+    }
+
+    /**
+     * 만료된 jti 를 지우고, 지운 것이 있으면 Bloom filter 를 다시 만들어 교체
+     */
+    public int removeExpired() {
+        long now = System.currentTimeMillis();
+        int before = revokedJtis.size();
+        revokedJtis.values().removeIf(expiresAtMillis -> expiresAtMillis <= now);
+
+        int removed = before - revokedJtis.size();
+        if (removed > 0) {
+            rebuildBloomFilter();
+        }
+        return removed;
+    }
+
+    public int size() {
+        return revokedJtis.size();
+    }
+
+    // 교체하는 동안 add 된 jti 가 빠지지 않도록, 교체 후 한 번 더 채운다.
+    private synchronized void rebuildBloomFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, revokedJtis.size() * 2), falsePositiveRate);
+        revokedJtis.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+        revokedJtis.keySet().forEach(rebuilt::put);
+    }
+}
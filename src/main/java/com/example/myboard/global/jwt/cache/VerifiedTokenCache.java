@@ -0,0 +1,144 @@
+package com.example.myboard.global.jwt.cache;
+
+import com.example.myboard.global.jwt.dto.TokenClaims;
+import com.example.myboard.global.util.TokenDigestUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 이미 서명 검증을 통과한 AccessToken 의 클레임 캐시
+ * - 키 : 토큰 원문의 SHA-256 digest (원문은 보관하지 않음)
+ * - 세그먼트별 LRU 로 전체 크기를 maxSize 이내로 유지
+ * - 각 항목은 토큰 자신의 exp 에 만료, 만료/축출된 토큰은 항상 JwtService 의 전체 검증을 다시 거친다.
+ * - 이전 형식으로 검증된 토큰은 이전 형식 허용 시각이 지나면 exp 전이라도 만료로 본다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final boolean enabled;
+    private final Segment[] segments;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expirationCount = new LongAdder();
+
+    public VerifiedTokenCache(@Value("${jwt.access.cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.access.cache.max-size:10000}") int maxSize) {
+        this.enabled = enabled;
+        this.segments = new Segment[SEGMENT_COUNT];
+
+        int segmentCapacity = Math.max(1, maxSize / SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    /**
+     * 캐시에 있으면 그대로 반환, 없으면 verifier 로 검증하고 성공한 경우만 캐시에 저장
+     */
+    public Optional<TokenClaims> getOrVerify(String token, Function<String, Optional<TokenClaims>> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+
+        String key = TokenDigestUtil.sha256Hex(token);
+        Segment segment = segmentFor(key);
+        long now = System.currentTimeMillis();
+
+        TokenClaims cached = segment.get(key, now);
+        if (cached != null) {
+            hitCount.increment();
+            return Optional.of(cached);
+        }
+        missCount.increment();
+
+        Optional<TokenClaims> verified = verifier.apply(token);
+        verified.filter(claims -> claims.isUsable(now))
+                .ifPresent(claims -> segment.put(key, claims));
+
+        return verified;
+    }
+
+    public Stats stats() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return new Stats(size, hitCount.sum(), missCount.sum(), evictionCount.sum(), expirationCount.sum());
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private Segment segmentFor(String key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)];
+    }
+
+    //== 접근 순서 LinkedHashMap 기반 LRU, 세그먼트 단위로 잠금 ==//
+    private final class Segment {
+
+        private final LinkedHashMap<String, TokenClaims> entries;
+
+        Segment(int capacity) {
+            this.entries = new LinkedHashMap<String, TokenClaims>(capacity, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, TokenClaims> eldest) {
+                    if (size() > capacity) {
+                        evictionCount.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized TokenClaims get(String key, long now) {
+            TokenClaims claims = entries.get(key);
+            if (claims != null && !claims.isUsable(now)) {
+                entries.remove(key);
+                expirationCount.increment();
+                return null;
+            }
+            return claims;
+        }
+
+        synchronized void put(String key, TokenClaims claims) {
+            entries.put(key, claims);
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        synchronized void clear() {
+            entries.clear();
+        }
+    }
+
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class Stats {
+        private final int size;
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final long expirationCount;
+    }
+}
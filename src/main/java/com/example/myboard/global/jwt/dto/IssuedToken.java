@@ -0,0 +1,16 @@
+package com.example.myboard.global.jwt.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 방금 발급한 토큰과 그 클레임
+ * 직접 서명한 토큰이므로 다시 검증하지 않고 jti, 만료시각을 꺼낼 때 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public final class IssuedToken {
+
+    private final String token;
+    private final TokenClaims claims;
+}
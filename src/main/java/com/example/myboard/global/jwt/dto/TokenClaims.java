@@ -0,0 +1,86 @@
+package com.example.myboard.global.jwt.dto;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.myboard.domain.member.role.Role;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Date;
+
+/**
+ * 한 번 검증된 토큰에서 꺼낸 클레임 (불변)
+ * 서명 검증은 JwtService 에서 한 번만 하고, 이후에는 이 객체만 돌려 쓴다.
+ */
+@Getter
+@ToString
+public final class TokenClaims {
+
+    private final String subject;
+    private final String jti;
+    private final String username;
+    private final long expiresAtMillis;
+
+    //== stateless 모드로 발급된 AccessToken 에만 존재 (없으면 null, 0) ==//
+    private final Long memberId;
+    private final Role role;
+    private final long issuedAtMillis;
+
+    // 이전 형식으로 검증된 토큰은 이전 형식 허용 시각(jwt.profile.previous.accepted-until)까지만 사용 (현재 형식이면 Long.MAX_VALUE)
+    private final long acceptedUntilMillis;
+
+    public TokenClaims(String subject, String jti, String username, long expiresAtMillis) {
+        this(subject, jti, username, expiresAtMillis, null, null, 0L);
+    }
+
+    public TokenClaims(String subject, String jti, String username, long expiresAtMillis, Long memberId, Role role, long issuedAtMillis) {
+        this(subject, jti, username, expiresAtMillis, memberId, role, issuedAtMillis, Long.MAX_VALUE);
+    }
+
+    private TokenClaims(String subject, String jti, String username, long expiresAtMillis, Long memberId, Role role, long issuedAtMillis,
+                        long acceptedUntilMillis) {
+        this.subject = subject;
+        this.jti = jti;
+        this.username = username;
+        this.expiresAtMillis = expiresAtMillis;
+        this.memberId = memberId;
+        this.role = role;
+        this.issuedAtMillis = issuedAtMillis;
+        this.acceptedUntilMillis = acceptedUntilMillis;
+    }
+
+    public TokenClaims acceptedUntil(long acceptedUntilMillis) {
+        return new TokenClaims(subject, jti, username, expiresAtMillis, memberId, role, issuedAtMillis, acceptedUntilMillis);
+    }
+
+    /**
+     * @param subject 토큰 형식에 상관없이 통일된 subject (AccessToken, RefreshToken)
+     */
+    public static TokenClaims from(DecodedJWT decodedJWT, String subject, String usernameClaim, String memberIdClaim, String roleClaim) {
+        Date expiresAt = decodedJWT.getExpiresAt();
+        Date issuedAt = decodedJWT.getIssuedAt();
+        String role = decodedJWT.getClaim(roleClaim).asString();
+
+        return new TokenClaims(
+                subject,
+                decodedJWT.getId(),
+                decodedJWT.getClaim(usernameClaim).asString(),
+                expiresAt == null ? Long.MAX_VALUE : expiresAt.getTime(),
+                decodedJWT.getClaim(memberIdClaim).asLong(),
+                role == null ? null : Role.valueOf(role),
+                issuedAt == null ? 0L : issuedAt.getTime());
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+
+    // 만료되지 않았고, 검증한 형식이 아직 허용되는지 (캐시에서 꺼낼 때 확인)
+    public boolean isUsable(long nowMillis) {
+        return !isExpired(nowMillis) && nowMillis < acceptedUntilMillis;
+    }
+
+    // 회원 id, 권한이 토큰에 들어있어 DB 조회 없이 인증할 수 있는지
+    public boolean isSelfContained() {
+        return memberId != null && role != null && username != null;
+    }
+}
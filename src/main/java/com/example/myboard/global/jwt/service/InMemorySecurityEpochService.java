@@ -0,0 +1,41 @@
+package com.example.myboard.global.jwt.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리에만 보관하는 보안 epoch (memberId -> epoch 를 올린 시각)
+ * AccessToken 유효기간이 지난 epoch 는 더 이상 거부할 토큰이 없으므로 정리한다.
+ * 서버가 재시작되면 epoch 가 사라지므로, 짧은 AccessToken 유효기간을 전제로 한다.
+ * JWT 의 iat 는 초 단위이므로 epoch 도 초 단위로 내림해서 비교한다. (비밀번호 변경 직후 같은 초에 다시 로그인해도 거부되지 않음)
+ */
+@Component
+public class InMemorySecurityEpochService implements SecurityEpochService {
+
+    private static final int PRUNE_THRESHOLD = 1024;
+
+    @Value("${jwt.access.expiration}")
+    private long accessTokenValidityInSeconds;
+
+    private final Map<Long, Long> epochs = new ConcurrentHashMap<>();
+
+    @Override
+    public void advance(Long memberId) {
+        long now = System.currentTimeMillis();
+        epochs.put(memberId, now / 1000 * 1000);
+
+        if (epochs.size() > PRUNE_THRESHOLD) {
+            long expiredBefore = now - accessTokenValidityInSeconds * 1000;
+            epochs.values().removeIf(epoch -> epoch < expiredBefore);
+        }
+    }
+
+    @Override
+    public boolean isCurrent(Long memberId, long issuedAtMillis) {
+        Long epoch = epochs.get(memberId);
+        return epoch == null || issuedAtMillis >= epoch;
+    }
+}
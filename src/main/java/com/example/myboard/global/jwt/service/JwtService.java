@@ -1,5 +1,9 @@
 package com.example.myboard.global.jwt.service;
 
+import com.example.myboard.domain.member.role.Role;
+import com.example.myboard.global.jwt.dto.IssuedToken;
+import com.example.myboard.global.jwt.dto.TokenClaims;
+
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -8,8 +12,19 @@ import java.util.Optional;
 
 public interface JwtService {
     String createAccessToken(String username);
+
+    /**
+     * jwt.access.stateless 가 켜져 있으면 회원 id, 권한을 클레임에 담아서 발급 (DB 조회 없이 인증 가능)
+     * 꺼져 있으면 createAccessToken(username) 과 같다.
+     */
+    String createAccessToken(Long memberId, String username, Role role);
     String createRefreshToken();
 
+    /**
+     * RefreshToken 발급, 저장에 필요한 jti, 만료시각을 검증 없이 함께 반환
+     */
+    IssuedToken issueRefreshToken();
+
     void updateRefreshToken(String username, String refreshToken) throws Exception;
 
     void destroyRefreshToken(String username) throws Exception;
@@ -28,4 +43,12 @@ public interface JwtService {
     void setRefreshTokenHeader(HttpServletResponse response, String refreshToken);
 
     boolean isTokenValid(String token);
+
+    /**
+     * 토큰을 한 번만 검증하고, 검증된 클레임을 반환
+     * 서명이 틀리거나, 만료되었거나, subject 가 다르면 Optional.empty()
+     */
+    Optional<TokenClaims> verifyAccessToken(String accessToken);
+
+    Optional<TokenClaims> verifyRefreshToken(String refreshToken);
 }
@@ -1,9 +1,12 @@
 package com.example.myboard.global.jwt.service;
 
-import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.example.myboard.domain.member.Member;
 import com.example.myboard.domain.member.repository.MemberRepository;
+import com.example.myboard.domain.member.role.Role;
+import com.example.myboard.domain.token.service.RefreshTokenService;
+import com.example.myboard.global.jwt.dto.IssuedToken;
+import com.example.myboard.global.jwt.dto.TokenClaims;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -12,10 +15,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.transaction.Transactional;
+import java.time.Instant;
 import java.util.*;
+import java.util.function.BiFunction;
 
 
 @Transactional
@@ -40,30 +46,92 @@ public class JwtServiceImpl implements JwtService {
     @Value("${jwt.refresh.header}")
     private String refreshHeader;
 
+    @Value("${jwt.access.stateless:false}")
+    private boolean statelessAccessToken;
 
-    private static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
-    private static final String REFRESH_TOKEN_SUBJECT = "RefreshToken";
-    private static final String USERNAME_CLAIM = "username";
+    @Value("${jwt.profile.algorithm:HS512}")
+    private String profileAlgorithm;
+
+    @Value("${jwt.profile.compact-claims:false}")
+    private boolean compactClaims;
+
+    @Value("${jwt.profile.binary-claims:false}")
+    private boolean binaryClaims;
+
+    //== 형식을 바꾸기 전에 쓰던 형식, acceptedUntil 까지 검증에 함께 사용 ==//
+    @Value("${jwt.profile.previous.algorithm:HS512}")
+    private String previousAlgorithm;
+
+    @Value("${jwt.profile.previous.compact-claims:false}")
+    private boolean previousCompactClaims;
+
+    @Value("${jwt.profile.previous.binary-claims:false}")
+    private boolean previousBinaryClaims;
+
+    @Value("${jwt.profile.previous.accepted-until:}")
+    private String previousAcceptedUntil;
+
+
+    private static final String ACCESS_TOKEN_SUBJECT = TokenProfile.ACCESS_TOKEN_SUBJECT;
+    private static final String REFRESH_TOKEN_SUBJECT = TokenProfile.REFRESH_TOKEN_SUBJECT;
     private static final String BEARER = "Bearer";
 
     private final MemberRepository memberRepository;
     private final ObjectMapper objectMapper;
+    private final RefreshTokenService refreshTokenService;
+
+    //== 발급은 profile 로, 검증은 profile 로 먼저 하고 이전 형식 허용 기간에는 previousProfile 로 한 번 더 ==//
+    private TokenProfile profile;
+    private TokenProfile previousProfile;
+    private long previousAcceptedUntilMillis;
+
+    /**
+     * 이전 형식 허용 기간은 설정의 절대 시각(accepted-until)으로 정한다.
+     * 재시작해도 늘어나지 않고, 여러 서버가 같은 시각에 이전 형식을 거부하기 시작한다.
+     */
+    @PostConstruct
+    public void init() {
+        profile = new TokenProfile(secret, profileAlgorithm, compactClaims, binaryClaims);
+
+        // 허용 시각이 없으면 이전 형식은 만들지도 않는다 (설정 없이 직접 생성한 경우 포함)
+        if (previousAcceptedUntil == null || previousAcceptedUntil.isEmpty()) {
+            log.info("토큰 형식 : {}, 이전 형식 허용 : 안 함", profile);
+            return;
+        }
+
+        TokenProfile previous = new TokenProfile(secret, previousAlgorithm, previousCompactClaims, previousBinaryClaims);
+        if (!profile.isSameFormat(previous)) {
+            previousProfile = previous;
+            previousAcceptedUntilMillis = Instant.parse(previousAcceptedUntil).toEpochMilli();
+        }
+
+        log.info("토큰 형식 : {}, 이전 형식 : {}, 허용 : {}", profile, previous,
+                isPreviousAccepted() ? previousAcceptedUntil + " 까지" : "안 함");
+    }
 
     @Override
     public String createAccessToken(String username) {
-        return JWT.create()
-                .withSubject(ACCESS_TOKEN_SUBJECT)
-                .withExpiresAt(new Date(System.currentTimeMillis() + accessTokenValidityInSeconds * 1000))
-                .withClaim(USERNAME_CLAIM, username)
-                .sign(Algorithm.HMAC512(secret));
+        return profile.createAccessToken(username, System.currentTimeMillis() + accessTokenValidityInSeconds * 1000);
+    }
+
+    @Override
+    public String createAccessToken(Long memberId, String username, Role role) {
+        if (!statelessAccessToken) {
+            return createAccessToken(username);
+        }
+
+        long now = System.currentTimeMillis();
+        return profile.createAccessToken(memberId, username, role, now, now + accessTokenValidityInSeconds * 1000);
     }
 
     @Override
     public String createRefreshToken() {
-        return JWT.create()
-                .withSubject(REFRESH_TOKEN_SUBJECT)
-                .withExpiresAt(new Date(System.currentTimeMillis() + refreshTokenValidityInSeconds * 1000))
-                .sign(Algorithm.HMAC512(secret));
+        return issueRefreshToken().getToken();
+    }
+
+    @Override
+    public IssuedToken issueRefreshToken() {
+        return profile.issueRefreshToken(System.currentTimeMillis() + refreshTokenValidityInSeconds * 1000);
     }
 
     @Override
@@ -76,6 +144,7 @@ public class JwtServiceImpl implements JwtService {
     public void destroyRefreshToken(String username) throws Exception{
         Member findMember = memberRepository.findByUsername(username).orElseThrow(() -> new Exception("회원정보가 없습니다."));
         findMember.destroyRefreshToken();
+        refreshTokenService.deleteAllByMemberId(findMember.getId());
     }
 
    /* @Override
@@ -134,12 +203,7 @@ public class JwtServiceImpl implements JwtService {
 
     @Override
     public Optional<String> extractUsername(String accessToken) {
-        try {
-            return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secret)).build().verify(accessToken).getClaim(USERNAME_CLAIM).asString());
-        } catch (Exception e) {
-            log.error(e.getMessage());
-            return Optional.empty();
-        }
+        return verify(accessToken, TokenProfile::verifyToken).map(TokenClaims::getUsername);
     }
 
     @Override
@@ -154,12 +218,41 @@ public class JwtServiceImpl implements JwtService {
 
     @Override
     public boolean isTokenValid(String token) {
+        return verify(token, TokenProfile::verifyToken).isPresent();
+    }
+
+    @Override
+    public Optional<TokenClaims> verifyAccessToken(String accessToken) {
+        return verify(accessToken, TokenProfile::verifyAccessToken);
+    }
+
+    @Override
+    public Optional<TokenClaims> verifyRefreshToken(String refreshToken) {
+        return verify(refreshToken, TokenProfile::verifyRefreshToken);
+    }
+
+    private Optional<TokenClaims> verify(String token, BiFunction<TokenProfile, String, TokenClaims> verification) {
+        if (token == null) {
+            return Optional.empty();
+        }
+
         try {
-            JWT.require(Algorithm.HMAC512(secret)).build().verify(token);
-            return true;
-        } catch (Exception e) {
-            log.error("유효하지 않은 Token 입니다.", e.getMessage());
-            return false;
+            return Optional.of(verification.apply(profile, token));
+        } catch (JWTVerificationException e) {
+            if (isPreviousAccepted()) {
+                try {
+                    return Optional.of(verification.apply(previousProfile, token).acceptedUntil(previousAcceptedUntilMillis));
+                } catch (JWTVerificationException ignored) {
+                    // 아래에서 함께 처리
+                }
+            }
+
+            log.debug("유효하지 않은 Token 입니다. {}", e.getMessage());
+            return Optional.empty();
         }
     }
+
+    private boolean isPreviousAccepted() {
+        return previousProfile != null && System.currentTimeMillis() < previousAcceptedUntilMillis;
+    }
 }
@@ -0,0 +1,12 @@
+package com.example.myboard.global.jwt.service;
+
+/**
+ * 회원별 보안 epoch
+ * 비밀번호 변경, 회원탈퇴 시 epoch 를 올려서 그 이전에 발급된 (DB 조회 없이 인증하는) AccessToken 을 무효화
+ */
+public interface SecurityEpochService {
+
+    void advance(Long memberId);
+
+    boolean isCurrent(Long memberId, long issuedAtMillis);
+}
@@ -0,0 +1,265 @@
+package com.example.myboard.global.jwt.service;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.myboard.domain.member.role.Role;
+import com.example.myboard.global.jwt.dto.IssuedToken;
+import com.example.myboard.global.jwt.dto.TokenClaims;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * 토큰 발급, 검증 형식 (서명 알고리즘 + 클레임 이름 + 클레임 인코딩)
+ * - legacy : HS512, sub=AccessToken/RefreshToken, username/id/role 클레임 (기존 형식)
+ * - compact : sub=a/r, u/m/r 클레임, jti 는 UUID 를 22자 base64url 로
+ * - binary : compact 에 더해 회원 id, 권한, 아이디를 바이트로 묶어 c 클레임 하나에 담기 (stateless AccessToken 만 해당)
+ * 형식이 달라도 검증 결과(TokenClaims) 의 subject 는 항상 AccessToken/RefreshToken 이다.
+ */
+public final class TokenProfile {
+
+    public static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
+    public static final String REFRESH_TOKEN_SUBJECT = "RefreshToken";
+
+    private static final String LEGACY_USERNAME_CLAIM = "username";
+    private static final String LEGACY_MEMBER_ID_CLAIM = "id";
+    private static final String LEGACY_ROLE_CLAIM = "role";
+
+    private static final String COMPACT_ACCESS_SUBJECT = "a";
+    private static final String COMPACT_REFRESH_SUBJECT = "r";
+    private static final String COMPACT_USERNAME_CLAIM = "u";
+    private static final String COMPACT_MEMBER_ID_CLAIM = "m";
+    private static final String COMPACT_ROLE_CLAIM = "r";
+    private static final String BINARY_CLAIM = "c";
+
+    private static final Role[] ROLES = Role.values();
+    private static final Base64.Encoder BASE64_URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_URL_DECODER = Base64.getUrlDecoder();
+
+    private final String algorithmName;
+    private final boolean compactClaims;
+    private final boolean binaryClaims;
+
+    private final String accessSubject;
+    private final String refreshSubject;
+    private final String usernameClaim;
+    private final String memberIdClaim;
+    private final String roleClaim;
+
+    //== 알고리즘, Verifier 는 thread-safe 하므로 한 번만 생성 ==//
+    private final Algorithm algorithm;
+    private final JWTVerifier tokenVerifier;
+    private final JWTVerifier accessTokenVerifier;
+    private final JWTVerifier refreshTokenVerifier;
+
+    /**
+     * @param algorithmName HS256, HS512
+     * @param binaryClaims compactClaims 가 true 일 때만 적용
+     */
+    public TokenProfile(String secret, String algorithmName, boolean compactClaims, boolean binaryClaims) {
+        this.algorithmName = algorithmName;
+        this.compactClaims = compactClaims;
+        this.binaryClaims = compactClaims && binaryClaims;
+
+        this.accessSubject = compactClaims ? COMPACT_ACCESS_SUBJECT : ACCESS_TOKEN_SUBJECT;
+        this.refreshSubject = compactClaims ? COMPACT_REFRESH_SUBJECT : REFRESH_TOKEN_SUBJECT;
+        this.usernameClaim = compactClaims ? COMPACT_USERNAME_CLAIM : LEGACY_USERNAME_CLAIM;
+        this.memberIdClaim = compactClaims ? COMPACT_MEMBER_ID_CLAIM : LEGACY_MEMBER_ID_CLAIM;
+        this.roleClaim = compactClaims ? COMPACT_ROLE_CLAIM : LEGACY_ROLE_CLAIM;
+
+        this.algorithm = algorithm(secret, algorithmName);
+        this.tokenVerifier = JWT.require(algorithm).build();
+        this.accessTokenVerifier = JWT.require(algorithm).withSubject(accessSubject).build();
+        this.refreshTokenVerifier = JWT.require(algorithm).withSubject(refreshSubject).build();
+    }
+
+    public static TokenProfile legacy(String secret) {
+        return new TokenProfile(secret, "HS512", false, false);
+    }
+
+    private static Algorithm algorithm(String secret, String algorithmName) {
+        switch (algorithmName) {
+            case "HS256":
+                return Algorithm.HMAC256(secret);
+            case "HS512":
+                return Algorithm.HMAC512(secret);
+            default:
+                throw new IllegalArgumentException("지원하지 않는 토큰 알고리즘입니다. algorithm:" + algorithmName);
+        }
+    }
+
+    // 발급되는 토큰 형식이 같은지 (같으면 이전 형식을 따로 검증할 필요가 없다)
+    public boolean isSameFormat(TokenProfile other) {
+        return algorithmName.equals(other.algorithmName)
+                && compactClaims == other.compactClaims
+                && binaryClaims == other.binaryClaims;
+    }
+
+    //== 발급 ==//
+
+    public String createAccessToken(String username, long expiresAtMillis) {
+        return JWT.create()
+                .withSubject(accessSubject)
+                .withJWTId(newJti())
+                .withExpiresAt(new Date(expiresAtMillis))
+                .withClaim(usernameClaim, username)
+                .sign(algorithm);
+    }
+
+    public String createAccessToken(Long memberId, String username, Role role, long issuedAtMillis, long expiresAtMillis) {
+        JWTCreator.Builder builder = JWT.create()
+                .withSubject(accessSubject)
+                .withJWTId(newJti())
+                .withIssuedAt(new Date(issuedAtMillis))
+                .withExpiresAt(new Date(expiresAtMillis));
+
+        if (binaryClaims) {
+            builder.withClaim(BINARY_CLAIM, encodeBinary(memberId, role, username));
+        } else {
+            builder.withClaim(usernameClaim, username)
+                    .withClaim(memberIdClaim, memberId)
+                    .withClaim(roleClaim, role.name());
+        }
+
+        return builder.sign(algorithm);
+    }
+
+    public String createRefreshToken(long expiresAtMillis) {
+        return issueRefreshToken(expiresAtMillis).getToken();
+    }
+
+    /**
+     * 만료시각은 토큰에 초 단위로 들어가므로, 검증했을 때와 같도록 초 단위로 내려서 돌려준다.
+     */
+    public IssuedToken issueRefreshToken(long expiresAtMillis) {
+        String jti = newJti();
+        long expiresAtSecondsMillis = expiresAtMillis / 1000 * 1000;
+
+        String token = JWT.create()
+                .withSubject(refreshSubject)
+                .withJWTId(jti)
+                .withExpiresAt(new Date(expiresAtSecondsMillis))
+                .sign(algorithm);
+        return new IssuedToken(token, new TokenClaims(REFRESH_TOKEN_SUBJECT, jti, null, expiresAtSecondsMillis));
+    }
+
+    //== 검증 (실패하면 JWTVerificationException) ==//
+
+    public TokenClaims verifyAccessToken(String token) {
+        return toClaims(accessTokenVerifier.verify(token));
+    }
+
+    public TokenClaims verifyRefreshToken(String token) {
+        return toClaims(refreshTokenVerifier.verify(token));
+    }
+
+    public TokenClaims verifyToken(String token) {
+        return toClaims(tokenVerifier.verify(token));
+    }
+
+    private TokenClaims toClaims(DecodedJWT decodedJWT) {
+        String subject = canonicalSubject(decodedJWT.getSubject());
+
+        if (binaryClaims && !decodedJWT.getClaim(BINARY_CLAIM).isMissing()) {
+            return decodeBinary(decodedJWT, subject);
+        }
+        return TokenClaims.from(decodedJWT, subject, usernameClaim, memberIdClaim, roleClaim);
+    }
+
+    private String canonicalSubject(String subject) {
+        if (accessSubject.equals(subject)) {
+            return ACCESS_TOKEN_SUBJECT;
+        }
+        if (refreshSubject.equals(subject)) {
+            return REFRESH_TOKEN_SUBJECT;
+        }
+        return subject;
+    }
+
+    private String newJti() {
+        UUID uuid = UUID.randomUUID();
+        if (!compactClaims) {
+            return uuid.toString();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.putLong(uuid.getMostSignificantBits());
+        buffer.putLong(uuid.getLeastSignificantBits());
+        return BASE64_URL_ENCODER.encodeToString(buffer.array());
+    }
+
+    //== binary 클레임 : varint(회원 id) + 권한 ordinal 1byte + 아이디 UTF-8 ==//
+
+    private static String encodeBinary(Long memberId, Role role, String username) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + username.length());
+
+        long value = memberId;
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+        out.write(role.ordinal());
+
+        byte[] usernameBytes = username.getBytes(StandardCharsets.UTF_8);
+        out.write(usernameBytes, 0, usernameBytes.length);
+
+        return BASE64_URL_ENCODER.encodeToString(out.toByteArray());
+    }
+
+    private static TokenClaims decodeBinary(DecodedJWT decodedJWT, String subject) {
+        byte[] bytes;
+        try {
+            bytes = BASE64_URL_DECODER.decode(decodedJWT.getClaim(BINARY_CLAIM).asString());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new JWTDecodeException("잘못된 클레임입니다.");
+        }
+
+        int index = 0;
+        long memberId = 0;
+        int shift = 0;
+        while (true) {
+            if (index >= bytes.length || shift > 63) {
+                throw new JWTDecodeException("잘못된 클레임입니다.");
+            }
+            byte b = bytes[index++];
+            memberId |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+            shift += 7;
+        }
+
+        if (index >= bytes.length || (bytes[index] & 0xFF) >= ROLES.length) {
+            throw new JWTDecodeException("잘못된 클레임입니다.");
+        }
+        Role role = ROLES[bytes[index++] & 0xFF];
+        String username = new String(bytes, index, bytes.length - index, StandardCharsets.UTF_8);
+
+        Date expiresAt = decodedJWT.getExpiresAt();
+        Date issuedAt = decodedJWT.getIssuedAt();
+
+        return new TokenClaims(
+                subject,
+                decodedJWT.getId(),
+                username,
+                expiresAt == null ? Long.MAX_VALUE : expiresAt.getTime(),
+                memberId,
+                role,
+                issuedAt == null ? 0L : issuedAt.getTime());
+    }
+
+    @Override
+    public String toString() {
+        return algorithmName + (binaryClaims ? "/binary" : compactClaims ? "/compact" : "");
+    }
+}
@@ -0,0 +1,283 @@
+package com.example.myboard.global.log;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 요청 스레드 대신 백그라운드 스레드 하나가 INFO 로그를 남기도록 하는 링 버퍼 (log.async.enabled)
+ * - 슬롯은 기동시 capacity 개를 미리 만들어 두고 재사용 (여러 스레드가 쓰고, 한 스레드가 읽음)
+ * - 가득 차면 overflow 설정에 따라 버리고 개수를 세거나(DROP), 빈 자리가 생길 때까지 기다린다(BLOCK)
+ * - 종료시 남은 이벤트를 모두 기록한 뒤 멈춘다 (종료 중에 슬롯을 얻은 producer 는 직접 비운다)
+ * 꺼져 있으면 호출한 스레드에서 바로 기록한다.
+ */
+@Slf4j
+@Component
+public class AsyncLogSink {
+
+    public enum Overflow {
+        DROP, BLOCK
+    }
+
+    private static final int MAX_ARGS = 5;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final int capacity;
+    private final int mask;
+    private final int batchSize;
+    private final Overflow overflow;
+
+    //== 링 버퍼 : published[i] 에 슬롯 i 에 쓰인 sequence 를 기록하면 consumer 가 읽어 간다 ==//
+    private final Slot[] slots;
+    private final AtomicLongArray published;
+    private final AtomicLong producerSequence = new AtomicLong();
+    private final AtomicLong consumerSequence = new AtomicLong();
+
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder writtenCount = new LongAdder();
+
+    private volatile boolean running;
+    private Thread consumer;
+
+    public AsyncLogSink(@Value("${log.async.enabled:false}") boolean enabled,
+                        @Value("${log.async.capacity:8192}") int capacity,
+                        @Value("${log.async.batch-size:256}") int batchSize,
+                        @Value("${log.async.overflow:DROP}") Overflow overflow) {
+        this.enabled = enabled;
+        this.capacity = Integer.highestOneBit(Math.max(1, capacity - 1) << 1);
+        this.mask = this.capacity - 1;
+        this.batchSize = batchSize;
+        this.overflow = overflow;
+
+        int slotCount = enabled ? this.capacity : 0;
+        this.slots = new Slot[slotCount];
+        this.published = new AtomicLongArray(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new Slot();
+            published.set(i, -1);
+        }
+    }
+
+    // 스레드 없이 바로 기록 (테스트, 벤치마크용)
+    public static AsyncLogSink synchronous() {
+        return new AsyncLogSink(false, 2, 1, Overflow.DROP);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+
+        running = true;
+        consumer = new Thread(this::consume, "async-log-sink");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    public void info(Logger logger, String format, Object arg1) {
+        publish(logger, format, 1, arg1, null, null, null, null);
+    }
+
+    public void info(Logger logger, String format, Object arg1, Object arg2) {
+        publish(logger, format, 2, arg1, arg2, null, null, null);
+    }
+
+    public void info(Logger logger, String format, Object arg1, Object arg2, Object arg3) {
+        publish(logger, format, 3, arg1, arg2, arg3, null, null);
+    }
+
+    public void info(Logger logger, String format, Object arg1, Object arg2, Object arg3, Object arg4) {
+        publish(logger, format, 4, arg1, arg2, arg3, arg4, null);
+    }
+
+    public void info(Logger logger, String format, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) {
+        publish(logger, format, 5, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    private void publish(Logger logger, String format, int argCount, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+
+        if (!running) {
+            logger.info(format, args(argCount, arg1, arg2, arg3, arg4, arg5));
+            return;
+        }
+
+        long sequence = claim();
+        if (sequence < 0) {
+            if (!running) {
+                logger.info(format, args(argCount, arg1, arg2, arg3, arg4, arg5));
+                return;
+            }
+            droppedCount.increment();
+            return;
+        }
+
+        int index = (int) (sequence & mask);
+        Slot slot = slots[index];
+        slot.logger = logger;
+        slot.format = format;
+        slot.argCount = argCount;
+        slot.args[0] = arg1;
+        slot.args[1] = arg2;
+        slot.args[2] = arg3;
+        slot.args[3] = arg4;
+        slot.args[4] = arg5;
+
+        published.lazySet(index, sequence);
+
+        // running 을 본 뒤 슬롯을 얻기 전에 종료되었으면 consumer 가 이미 멈췄을 수 있다
+        if (!running) {
+            drainAll();
+        }
+    }
+
+    // 빈 슬롯의 sequence (DROP 이고 가득 찼으면 -1)
+    private long claim() {
+        while (true) {
+            long sequence = producerSequence.get();
+
+            if (sequence - consumerSequence.get() >= capacity) {
+                if (overflow == Overflow.DROP || !running) {
+                    return -1;
+                }
+                LockSupport.parkNanos(1000);
+                continue;
+            }
+
+            if (producerSequence.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    private void consume() {
+        while (running || consumerSequence.get() < producerSequence.get()) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    // 남은 이벤트가 없을 때까지 기록 (종료시, 종료 후 들어온 producer)
+    private void drainAll() {
+        int written;
+        do {
+            written = drain();
+        } while (written > 0);
+    }
+
+    // batchSize 개까지 순서대로 기록, 종료 전후로 consumer 와 producer 가 함께 부를 수 있어 한 번에 한 스레드만
+    private synchronized int drain() {
+        int written = 0;
+        long sequence = consumerSequence.get();
+
+        while (written < batchSize) {
+            int index = (int) (sequence & mask);
+            if (published.get(index) != sequence) {
+                break;
+            }
+
+            Slot slot = slots[index];
+            Logger logger = slot.logger;
+            String format = slot.format;
+            Object[] args = args(slot.argCount, slot.args[0], slot.args[1], slot.args[2], slot.args[3], slot.args[4]);
+            slot.clear();
+
+            consumerSequence.lazySet(++sequence);
+
+            try {
+                logger.info(format, args);
+            } catch (RuntimeException e) {
+                log.warn("로그 기록에 실패했습니다. {}", e.toString());
+            }
+            written++;
+        }
+
+        if (written > 0) {
+            writtenCount.add(written);
+        }
+        return written;
+    }
+
+    private static Object[] args(int argCount, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) {
+        switch (argCount) {
+            case 1:
+                return new Object[]{arg1};
+            case 2:
+                return new Object[]{arg1, arg2};
+            case 3:
+                return new Object[]{arg1, arg2, arg3};
+            case 4:
+                return new Object[]{arg1, arg2, arg3, arg4};
+            default:
+                return new Object[]{arg1, arg2, arg3, arg4, arg5};
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        consumer.join(TimeUnit.SECONDS.toMillis(5));
+        drainAll();
+
+        if (droppedCount.sum() > 0) {
+            log.warn("버퍼가 가득 차 기록하지 못한 로그가 있습니다. count:{}", droppedCount.sum());
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(enabled, capacity, producerSequence.get() - consumerSequence.get(), writtenCount.sum(), droppedCount.sum(), overflow);
+    }
+
+    @Getter
+    public static class Stats {
+        private final boolean enabled;
+        private final int capacity;
+        private final long pending;
+        private final long writtenCount;
+        private final long droppedCount;
+        private final Overflow overflow;
+
+        Stats(boolean enabled, int capacity, long pending, long writtenCount, long droppedCount, Overflow overflow) {
+            this.enabled = enabled;
+            this.capacity = capacity;
+            this.pending = pending;
+            this.writtenCount = writtenCount;
+            this.droppedCount = droppedCount;
+            this.overflow = overflow;
+        }
+    }
+
+    private static final class Slot {
+        private Logger logger;
+        private String format;
+        private int argCount;
+        private final Object[] args = new Object[MAX_ARGS];
+
+        private void clear() {
+            logger = null;
+            format = null;
+            for (int i = 0; i < MAX_ARGS; i++) {
+                args[i] = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.myboard.global.log;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 호출마다 객체를 만들지 않는 LogTrace (log.trace.mode=fast)
+ * - 스레드마다 TraceStatus, TraceId 를 깊이별로 미리 만들어 두고 재사용
+ * - 들여쓰기 문자열은 깊이별로 캐시
+ * - 요청(최상위 호출) 단위로 sample-rate 만큼만 추적하고, 추적하지 않거나 INFO 로그가 꺼져 있으면 시간 측정, 문자열 생성 모두 생략
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "log.trace.mode", havingValue = "fast")
+public class FastLogTrace implements LogTrace {
+
+    private static final String START_PREFIX = "-->";
+    private static final String COMPLETE_PREFIX = "<--";
+    private static final String EX_PREFIX = "<X-";
+
+    private static final int CACHED_LEVELS = 32;
+    private static final String[] START_SPACES = spaces(START_PREFIX);
+    private static final String[] COMPLETE_SPACES = spaces(COMPLETE_PREFIX);
+    private static final String[] EX_SPACES = spaces(EX_PREFIX);
+
+    private final double sampleRate;
+    private final AsyncLogSink asyncLogSink;
+
+    private final ThreadLocal<Frames> framesHolder = ThreadLocal.withInitial(Frames::new);
+
+    public FastLogTrace(@Value("${log.trace.sample-rate:1.0}") double sampleRate, AsyncLogSink asyncLogSink) {
+        this.sampleRate = sampleRate;
+        this.asyncLogSink = asyncLogSink;
+    }
+
+    @Override
+    public TraceStatus begin(String message) {
+        Frames frames = framesHolder.get();
+
+        if (frames.depth == 0) {
+            frames.traced = log.isInfoEnabled() && isSampled();
+            frames.id = null;
+        }
+
+        int level = frames.depth;
+        TraceStatus status = frames.push();
+
+        if (!frames.traced) {
+            return status;
+        }
+
+        if (frames.id == null) {
+            frames.id = frames.nextId();
+        }
+        status.getTraceId().reset(frames.id, level);
+        status.reset(status.getTraceId(), System.nanoTime(), message);
+
+        asyncLogSink.info(log, "[{}] {}{}", frames.id, space(START_SPACES, START_PREFIX, level), message);
+        return status;
+    }
+
+    @Override
+    public void end(TraceStatus status) {
+        complete(status, null);
+    }
+
+    @Override
+    public void exception(TraceStatus status, Throwable e) {
+        complete(status, e);
+    }
+
+    private void complete(TraceStatus status, Throwable e) {
+        if (status == null) {
+            return;
+        }
+
+        Frames frames = framesHolder.get();
+
+        if (frames.traced) {
+            long resultTimeMs = (System.nanoTime() - status.getStartTimeNanos()) / 1_000_000;
+            TraceId traceId = status.getTraceId();
+
+            if (e == null) {
+                asyncLogSink.info(log, "[{}] {}{} time={}ms", traceId.getId(), space(COMPLETE_SPACES, COMPLETE_PREFIX, traceId.getLevel()), status.getMessage(), resultTimeMs);
+            } else {
+                asyncLogSink.info(log, "[{}] {}{} time={}ms ex={}", traceId.getId(), space(EX_SPACES, EX_PREFIX, traceId.getLevel()), status.getMessage(), resultTimeMs, e.toString());
+            }
+        }
+
+        frames.pop();
+    }
+
+    private boolean isSampled() {
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    //== 깊이별 들여쓰기 ==//
+    private static String space(String[] cached, String prefix, int level) {
+        return level < CACHED_LEVELS ? cached[level] : addSpace(prefix, level);
+    }
+
+    private static String[] spaces(String prefix) {
+        String[] spaces = new String[CACHED_LEVELS];
+        for (int level = 0; level < CACHED_LEVELS; level++) {
+            spaces[level] = addSpace(prefix, level);
+        }
+        return spaces;
+    }
+
+    private static String addSpace(String prefix, int level) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < level; i++) {
+            sb.append(
+                    (i == level - 1) ? "|" + prefix : "| "
+            );
+        }
+
+        return sb.toString();
+    }
+
+    //== 스레드별 호출 스택 (깊이가 늘어날 때만 새로 할당) ==//
+    private static final class Frames {
+
+        private TraceStatus[] stack = new TraceStatus[0];
+        private int depth;
+        private boolean traced;
+        private String id;
+        private long sequence;
+
+        private TraceStatus push() {
+            if (depth == stack.length) {
+                stack = Arrays.copyOf(stack, Math.max(8, stack.length * 2));
+                for (int i = depth; i < stack.length; i++) {
+                    TraceStatus status = new TraceStatus();
+                    status.reset(new TraceId(null, i), 0L, null);
+                    stack[i] = status;
+                }
+            }
+            return stack[depth++];
+        }
+
+        private void pop() {
+            if (depth > 0) {
+                TraceStatus status = stack[--depth];
+                status.reset(status.getTraceId(), 0L, null);
+            }
+        }
+
+        private String nextId() {
+            return Long.toHexString(Thread.currentThread().getId()) + "-" + Long.toHexString(++sequence);
+        }
+    }
+}
@@ -1,16 +1,22 @@
 package com.example.myboard.global.log;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
+@ConditionalOnProperty(name = "log.trace.mode", havingValue = "default", matchIfMissing = true)
+@RequiredArgsConstructor
 public class ThreadLocalLogTrace implements LogTrace {
 
     private static final String START_PREFIX = "-->";
     private static final String COMPLETE_PREFIX = "<--";
     private static final String EX_PREFIX = "<X-";
 
+    private final AsyncLogSink asyncLogSink;
+
     private ThreadLocal<TraceId> traceIdHolder = new ThreadLocal<>();
 
     @Override
@@ -20,7 +26,7 @@ public class ThreadLocalLogTrace implements LogTrace {
 
         Long startTimeMs = System.currentTimeMillis();
 
-        log.info("[{}] {}{}", traceId.getId(), addSpace(START_PREFIX, traceId.getLevel()), message);
+        asyncLogSink.info(log, "[{}] {}{}", traceId.getId(), addSpace(START_PREFIX, traceId.getLevel()), message);
 
 
         return new TraceStatus(traceId, startTimeMs, message);
@@ -30,6 +30,11 @@ public class TraceId {
         return null;
     }
 
+    void reset(String id, int level) {
+        this.id = id;
+        this.level = level;
+    }
+
     public TraceId createNextId() {
         return new TraceId(id, level + 1);
     }
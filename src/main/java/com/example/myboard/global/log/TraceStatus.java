@@ -6,6 +6,12 @@ public class TraceStatus {
     private Long startTimeMs;
     private String message;
 
+    //== FastLogTrace 용 (nanoTime, 객체를 재사용) ==//
+    private long startTimeNanos;
+
+    TraceStatus() {
+    }
+
     public TraceStatus(TraceId traceId, Long startTimeMs, String message) {
         this.traceId = traceId;
         this.startTimeMs = startTimeMs;
@@ -23,4 +29,14 @@ public class TraceStatus {
     public String getMessage() {
         return message;
     }
+
+    public long getStartTimeNanos() {
+        return startTimeNanos;
+    }
+
+    void reset(TraceId traceId, long startTimeNanos, String message) {
+        this.traceId = traceId;
+        this.startTimeNanos = startTimeNanos;
+        this.message = message;
+    }
 }
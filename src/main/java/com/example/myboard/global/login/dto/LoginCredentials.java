@@ -0,0 +1,18 @@
+package com.example.myboard.global.login.dto;
+
+import lombok.Getter;
+
+/**
+ * 로그인 요청 body 에서 읽은 아이디, 비밀번호
+ */
+@Getter
+public final class LoginCredentials {
+
+    private final String username;
+    private final String password;
+
+    public LoginCredentials(String username, String password) {
+        this.username = username;
+        this.password = password;
+    }
+}
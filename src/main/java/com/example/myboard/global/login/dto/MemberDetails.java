@@ -0,0 +1,23 @@
+package com.example.myboard.global.login.dto;
+
+import com.example.myboard.domain.member.role.Role;
+import lombok.Getter;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * 로그인 시 인증된 회원 정보
+ * LoginService 가 조회한 회원 id, 권한을 그대로 담아, 로그인 성공 후 회원을 다시 조회하지 않도록 한다.
+ */
+@Getter
+public class MemberDetails extends User {
+
+    private final Long memberId;
+    private final Role role;
+
+    public MemberDetails(Long memberId, String username, String password, Role role) {
+        super(username, password, AuthorityUtils.createAuthorityList("ROLE_" + role.name()));
+        this.memberId = memberId;
+        this.role = role;
+    }
+}
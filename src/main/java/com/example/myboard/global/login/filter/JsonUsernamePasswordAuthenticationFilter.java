@@ -1,56 +1,84 @@
 package com.example.myboard.global.login.filter;
 
+import com.example.myboard.global.login.dto.LoginCredentials;
+import com.example.myboard.global.login.limiter.LoginAttemptLimiter;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.AbstractAuthenticationProcessingFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
-import org.springframework.util.StreamUtils;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.util.Map;
 
 public class JsonUsernamePasswordAuthenticationFilter extends AbstractAuthenticationProcessingFilter {
 
     private static final String DEFAULT_LOGIN_REQUEST_URL = "/login";
     private static final String HTTP_METHOD = "POST";
-    private static final String CONTENT_TYPE = "application/json";
 
-    private final ObjectMapper objectMapper;
-
-    private static final String USERNAME_KEY = "username";
-    private static final String PASSWORD_KEY = "password";
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final LoginRequestReader loginRequestReader;
+    private final int maxBodyBytes;
 
     private static final AntPathRequestMatcher DEFAULT_LOGIN_PATH_REQUEST_MATCHER =
             new AntPathRequestMatcher(DEFAULT_LOGIN_REQUEST_URL, HTTP_METHOD);
 
 
-    public JsonUsernamePasswordAuthenticationFilter(ObjectMapper objectMapper) {
+    public JsonUsernamePasswordAuthenticationFilter(ObjectMapper objectMapper, LoginAttemptLimiter loginAttemptLimiter, int maxBodyBytes) {
         super(DEFAULT_LOGIN_PATH_REQUEST_MATCHER);
-        this.objectMapper = objectMapper;
+        this.loginAttemptLimiter = loginAttemptLimiter;
+        this.loginRequestReader = new LoginRequestReader(objectMapper.getFactory(), maxBodyBytes);
+        this.maxBodyBytes = maxBodyBytes;
     }
 
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException, IOException, ServletException {
-        if( request.getContentType() == null || !request.getContentType().equals(CONTENT_TYPE) ) {
+        // body 를 읽기 전에 Content-Type, 크기부터 확인
+        if( !isJsonContentType(request.getContentType()) ) {
             throw new AuthenticationServiceException("Authentication Content-Type not support: " + request.getContentType());
         }
 
-        String messageBody = StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            throw new AuthenticationServiceException("로그인 요청이 너무 큽니다.");
+        }
+
+        // 시도 횟수 제한은 body 를 읽기 전(IP), bcrypt 를 실행하기 전(아이디) 에 확인
+        if (!loginAttemptLimiter.tryAcquireByIp(request.getRemoteAddr())) {
+            throw new AuthenticationServiceException("로그인 시도가 너무 많습니다.");
+        }
+
+        LoginCredentials credentials = loginRequestReader.read(request.getInputStream());
 
-        Map<String, String> usernamePasswordMap = objectMapper.readValue(messageBody, Map.class);
+        String username = credentials.getUsername();
+        String password = credentials.getPassword();
 
-        String username = usernamePasswordMap.get(USERNAME_KEY);
-        String password = usernamePasswordMap.get(PASSWORD_KEY);
+        if (!loginAttemptLimiter.tryAcquireByUsername(username)) {
+            throw new AuthenticationServiceException("로그인 시도가 너무 많습니다.");
+        }
 
         UsernamePasswordAuthenticationToken authRequest = new UsernamePasswordAuthenticationToken(username, password);
 
         return this.getAuthenticationManager().authenticate(authRequest);
     }
+
+    // application/json (charset 은 없거나 UTF-8) 만 허용
+    private static boolean isJsonContentType(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return MediaType.APPLICATION_JSON.equalsTypeAndSubtype(mediaType)
+                    && (mediaType.getCharset() == null || StandardCharsets.UTF_8.equals(mediaType.getCharset()));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
 }
@@ -1,8 +1,13 @@
 package com.example.myboard.global.login.filter;
 
-import com.example.myboard.domain.member.Member;
 import com.example.myboard.domain.member.repository.MemberRepository;
+import com.example.myboard.domain.member.role.Role;
+import com.example.myboard.domain.token.service.RefreshTokenService;
+import com.example.myboard.global.jwt.cache.RevokedTokenCache;
+import com.example.myboard.global.jwt.cache.VerifiedTokenCache;
+import com.example.myboard.global.jwt.dto.TokenClaims;
 import com.example.myboard.global.jwt.service.JwtService;
+import com.example.myboard.global.jwt.service.SecurityEpochService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -25,6 +30,10 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final MemberRepository memberRepository;
+    private final SecurityEpochService securityEpochService;
+    private final RefreshTokenService refreshTokenService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RevokedTokenCache revokedTokenCache;
 
     private GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();   //5
 
@@ -41,9 +50,9 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
             return;     // 안해주면 아래로 내려가서 계속 필터를 진행 함.
         }
 
-        // request 에서 refreshToken 을 추출
+        // request 에서 refreshToken 을 추출, 서명 검증은 한 번만
         String refreshToken = jwtService.extractRefreshToken(request)
-                .filter(jwtService::isTokenValid)
+                .filter(token -> jwtService.verifyRefreshToken(token).isPresent())
                 .orElse(null); //2
 
         if (refreshToken != null) {
@@ -55,23 +64,36 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
     }
 
     private void checkAccessTokenAndAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        // request 에서 accessToken 추출, 토큰에서 username 추출, username 으로 repository 에서 Member 정보 조회, SecurityContext 에 인증 저장
-        jwtService.extractAccessToken(request).filter(jwtService::isTokenValid).ifPresent(
-                accessToken -> jwtService.extractUsername(accessToken).ifPresent(
-                        username -> memberRepository.findByUsername(username).ifPresent(
-                                member -> saveAuthentication(member)
-                        )
-                )
-        );
+        // request 에서 accessToken 추출, 검증된 토큰 캐시 확인 후 없으면 한 번 검증하여 클레임 추출
+        // 로그아웃 등으로 폐기된 토큰이 아니면 SecurityContext 에 인증 저장
+        jwtService.extractAccessToken(request)
+                .flatMap(accessToken -> verifiedTokenCache.getOrVerify(accessToken, jwtService::verifyAccessToken))
+                .filter(claims -> !revokedTokenCache.isRevoked(claims.getJti()))
+                .ifPresent(this::authenticate);
 
         filterChain.doFilter(request, response);
     }
 
-    private void saveAuthentication(Member member) {
+    private void authenticate(TokenClaims claims) {
+        // 회원 id, 권한이 담긴 토큰 -> DB 조회 없이 인증, 단 비밀번호 변경/탈퇴 이전에 발급된 토큰은 거부
+        if (claims.isSelfContained()) {
+            if (securityEpochService.isCurrent(claims.getMemberId(), claims.getIssuedAtMillis())) {
+                saveAuthentication(claims.getUsername(), "", claims.getRole());
+            }
+            return;
+        }
+
+        // username 만 있는 토큰 -> repository 에서 Member 정보 조회
+        memberRepository.findByUsername(claims.getUsername()).ifPresent(
+                member -> saveAuthentication(member.getUsername(), member.getPassword(), member.getRole())
+        );
+    }
+
+    private void saveAuthentication(String username, String password, Role role) {
         UserDetails user = User.builder()
-                .username(member.getUsername())
-                .password(member.getPassword())
-                .roles(member.getRole().name())
+                .username(username)
+                .password(password)
+                .roles(role.name())
                 .build();
 
         Authentication authentication = new UsernamePasswordAuthenticationToken(user, null, authoritiesMapper.mapAuthorities(user.getAuthorities()));
@@ -83,10 +105,10 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
 
     private void checkRefreshTokenAndReIssueAccessToken(HttpServletResponse response, String refreshToken) {
         /**
-         * 리프레쉬 토큰으로 Member 정보를 조회하여 존재하면 AccessToken 을 생성하여 응답에 저장하여 둔다.
+         * 리프레쉬 토큰 저장소(digest 인덱스)에서 회원 id 를 찾고, Member 정보를 조회하여 존재하면 AccessToken 을 생성하여 응답에 저장하여 둔다.
          */
-        memberRepository.findByRefreshToken(refreshToken).ifPresent(
-                member -> jwtService.sendAccessToken(response, jwtService.createAccessToken(member.getUsername()))
+        refreshTokenService.findMemberId(refreshToken).flatMap(memberRepository::findById).ifPresent(
+                member -> jwtService.sendAccessToken(response, jwtService.createAccessToken(member.getId(), member.getUsername(), member.getRole()))
         );
     }
 }
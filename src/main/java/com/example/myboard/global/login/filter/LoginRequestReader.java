@@ -0,0 +1,99 @@
+package com.example.myboard.global.login.filter;
+
+import com.example.myboard.global.login.dto.LoginCredentials;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 로그인 요청 body 를 String, Map 으로 복사하지 않고 입력 스트림에서 바로 username, password 만 읽는다.
+ * - maxBodyBytes 를 넘게 읽으려 하면 즉시 실패 (Content-Length 가 없는 chunked 요청 포함)
+ * - JSON 형식이 잘못되었으면 끝까지 읽지 않고 바로 실패
+ */
+class LoginRequestReader {
+
+    private static final String USERNAME_KEY = "username";
+    private static final String PASSWORD_KEY = "password";
+
+    private final JsonFactory jsonFactory;
+    private final int maxBodyBytes;
+
+    LoginRequestReader(JsonFactory jsonFactory, int maxBodyBytes) {
+        this.jsonFactory = jsonFactory;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    LoginCredentials read(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(new LimitedInputStream(body, maxBodyBytes))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new AuthenticationServiceException("로그인 요청 형식이 잘못되었습니다.");
+            }
+
+            String username = null;
+            String password = null;
+
+            String fieldName;
+            while ((fieldName = parser.nextFieldName()) != null) {
+                JsonToken value = parser.nextToken();
+
+                if (value == JsonToken.VALUE_STRING && USERNAME_KEY.equals(fieldName)) {
+                    username = parser.getText();
+                } else if (value == JsonToken.VALUE_STRING && PASSWORD_KEY.equals(fieldName)) {
+                    password = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (parser.currentToken() != JsonToken.END_OBJECT || parser.nextToken() != null) {
+                throw new AuthenticationServiceException("로그인 요청 형식이 잘못되었습니다.");
+            }
+
+            return new LoginCredentials(username, password);
+        } catch (JsonProcessingException e) {
+            throw new AuthenticationServiceException("로그인 요청 형식이 잘못되었습니다.", e);
+        }
+    }
+
+    //== 최대 크기를 넘게 읽으려 하면 예외 ==//
+    static class LimitedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        LimitedInputStream(InputStream in, long maxBytes) {
+            super(in);
+            this.remaining = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                consume(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, (int) Math.min(length, remaining + 1));
+            if (read > 0) {
+                consume(read);
+            }
+            return read;
+        }
+
+        private void consume(int bytes) {
+            remaining -= bytes;
+            if (remaining < 0) {
+                throw new AuthenticationServiceException("로그인 요청이 너무 큽니다.");
+            }
+        }
+    }
+}
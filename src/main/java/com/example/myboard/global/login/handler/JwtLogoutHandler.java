@@ -0,0 +1,41 @@
+package com.example.myboard.global.login.handler;
+
+import com.example.myboard.domain.token.service.RefreshTokenService;
+import com.example.myboard.domain.token.service.TokenRevocationService;
+import com.example.myboard.global.jwt.service.JwtService;
+import com.example.myboard.global.log.AsyncLogSink;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.logout.LogoutHandler;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 로그아웃
+ * AccessToken 은 만료될 때까지 jti 를 폐기 목록에 올리고, RefreshToken 은 저장소에서 삭제
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JwtLogoutHandler implements LogoutHandler {
+
+    private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final AsyncLogSink asyncLogSink;
+
+    @Override
+    public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+        jwtService.extractAccessToken(request)
+                .flatMap(jwtService::verifyAccessToken)
+                .ifPresent(claims -> {
+                    tokenRevocationService.revoke(claims.getJti(), claims.getExpiresAtMillis());
+                    asyncLogSink.info(log, "로그아웃 합니다. username:{}", claims.getUsername());
+                });
+
+        jwtService.extractRefreshToken(request)
+                .filter(refreshToken -> jwtService.verifyRefreshToken(refreshToken).isPresent())
+                .ifPresent(refreshTokenService::delete);
+    }
+}
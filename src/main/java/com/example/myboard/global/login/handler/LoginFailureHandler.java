@@ -1,5 +1,7 @@
 package com.example.myboard.global.login.handler;
 
+import com.example.myboard.global.log.AsyncLogSink;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
@@ -10,12 +12,15 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
 @Slf4j
+@RequiredArgsConstructor
 public class LoginFailureHandler extends SimpleUrlAuthenticationFailureHandler {
 
+    private final AsyncLogSink asyncLogSink;
+
     @Override
     public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response, AuthenticationException exception) throws IOException, ServletException {
         response.setStatus(HttpServletResponse.SC_OK);  // 보안을 위해 로그인 오류지만 200 리턴
         response.getWriter().write("fail");
-        log.info("로그인에 실패했습니다.");
+        asyncLogSink.info(log, "로그인에 실패했습니다. ip:{}", request.getRemoteAddr());
     }
 }
@@ -1,14 +1,19 @@
 package com.example.myboard.global.login.handler;
 
 import com.example.myboard.domain.member.repository.MemberRepository;
+import com.example.myboard.domain.member.role.Role;
+import com.example.myboard.domain.token.service.RefreshTokenService;
+import com.example.myboard.global.jwt.dto.IssuedToken;
+import com.example.myboard.global.jwt.dto.TokenClaims;
 import com.example.myboard.global.jwt.service.JwtService;
+import com.example.myboard.global.log.AsyncLogSink;
+import com.example.myboard.global.login.dto.MemberDetails;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 
-import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -20,31 +25,41 @@ public class LoginSuccessJWTProviderHandler extends SimpleUrlAuthenticationSucce
 
     private final JwtService jwtService;
     private final MemberRepository memberRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final AsyncLogSink asyncLogSink;
 
+    /**
+     * AbstractAuthenticationProcessingFilter 는 FilterChain 이 없는 onAuthenticationSuccess 를 호출하므로 이 메서드를 재정의
+     * RefreshToken 은 MEMBER 가 아닌 REFRESH_TOKEN 저장소에 digest 로 저장 (기기별로 여러 개 보관)
+     * 인증된 principal 이 MemberDetails 면 회원 id, 권한을 그대로 사용하고 회원을 다시 조회하지 않는다.
+     */
     @Override
-    public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, FilterChain chain, Authentication authentication) throws IOException, ServletException {
-        /*UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        log.info("로그인에 성공합니다. JWT를 발급합니다. username:{}", userDetails.getUsername());
+    public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException {
+        Object principal = authentication.getPrincipal();
 
-        response.getWriter().write("success");*/
-
-        String username = extractUsername(authentication);
-        String accessToken = jwtService.createAccessToken(username);
-        String refreshToken = jwtService.createRefreshToken();
-
-        jwtService.sendAccessAndRefreshToken(response, accessToken, refreshToken);
+        if (principal instanceof MemberDetails) {
+            MemberDetails memberDetails = (MemberDetails) principal;
+            issueTokens(response, memberDetails.getMemberId(), memberDetails.getUsername(), memberDetails.getRole());
+            return;
+        }
 
+        String username = ((UserDetails) principal).getUsername();
         memberRepository.findByUsername(username).ifPresent(
-                member -> member.updateRefreshToken(refreshToken)
+                member -> issueTokens(response, member.getId(), username, member.getRole())
         );
-
-        log.info("로그인에 성공합니다. username:{}", username);
-        log.info("AccessToken을 발급합니다. AccessToken:{}", accessToken);
-        log.info("RefreshToken을 발급합니다. RefreshToken:{}", refreshToken);
     }
 
-    private String extractUsername(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return userDetails.getUsername();
+    private void issueTokens(HttpServletResponse response, Long memberId, String username, Role role) {
+        String accessToken = jwtService.createAccessToken(memberId, username, role);
+        IssuedToken issuedRefreshToken = jwtService.issueRefreshToken();
+        String refreshToken = issuedRefreshToken.getToken();
+        TokenClaims claims = issuedRefreshToken.getClaims();
+
+        jwtService.sendAccessAndRefreshToken(response, accessToken, refreshToken);
+        refreshTokenService.save(memberId, refreshToken, claims.getJti(), claims.getExpiresAtMillis());
+
+        asyncLogSink.info(log, "로그인에 성공합니다. username:{}", username);
+        // 토큰 원문은 남기지 않는다 (로그를 읽을 수 있으면 재사용할 수 있음)
+        asyncLogSink.info(log, "AccessToken, RefreshToken을 발급합니다. RefreshToken jti:{}", claims.getJti());
     }
 }
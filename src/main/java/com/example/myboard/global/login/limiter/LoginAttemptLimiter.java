@@ -0,0 +1,80 @@
+package com.example.myboard.global.login.limiter;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 시도 제한 (아이디별, 클라이언트 IP 별)
+ * bcrypt 를 실행하기 전에 한도를 넘은 시도를 거절한다.
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private static final String USERNAME_PREFIX = "username:";
+    private static final String IP_PREFIX = "ip:";
+
+    private final boolean enabled;
+    private final StripedTokenBucket usernameBuckets;
+    private final StripedTokenBucket ipBuckets;
+    private final ObjectProvider<SharedLoginAttemptCounter> sharedCounter;
+
+    private final LongAdder usernameRejectedCount = new LongAdder();
+    private final LongAdder ipRejectedCount = new LongAdder();
+
+    public LoginAttemptLimiter(@Value("${login.rate-limit.enabled:true}") boolean enabled,
+                               @Value("${login.rate-limit.stripes:65536}") int stripes,
+                               @Value("${login.rate-limit.username.capacity:5}") int usernameCapacity,
+                               @Value("${login.rate-limit.username.refill-per-minute:5}") double usernameRefillPerMinute,
+                               @Value("${login.rate-limit.ip.capacity:20}") int ipCapacity,
+                               @Value("${login.rate-limit.ip.refill-per-minute:20}") double ipRefillPerMinute,
+                               ObjectProvider<SharedLoginAttemptCounter> sharedCounter) {
+        this.enabled = enabled;
+        this.usernameBuckets = new StripedTokenBucket(stripes, usernameCapacity, usernameRefillPerMinute);
+        this.ipBuckets = new StripedTokenBucket(stripes, ipCapacity, ipRefillPerMinute);
+        this.sharedCounter = sharedCounter;
+    }
+
+    public boolean tryAcquireByIp(String clientIp) {
+        return tryAcquire(ipBuckets, IP_PREFIX, clientIp, ipRejectedCount);
+    }
+
+    public boolean tryAcquireByUsername(String username) {
+        return tryAcquire(usernameBuckets, USERNAME_PREFIX, username, usernameRejectedCount);
+    }
+
+    public Stats stats() {
+        return new Stats(enabled, usernameRejectedCount.sum(), ipRejectedCount.sum());
+    }
+
+    private boolean tryAcquire(StripedTokenBucket buckets, String prefix, String key, LongAdder rejectedCount) {
+        if (!enabled || key == null) {
+            return true;
+        }
+
+        boolean acquired = buckets.tryAcquire(key);
+        if (acquired) {
+            SharedLoginAttemptCounter counter = sharedCounter.getIfAvailable();
+            acquired = counter == null || counter.tryAcquire(prefix + key);
+        }
+
+        if (!acquired) {
+            rejectedCount.increment();
+        }
+        return acquired;
+    }
+
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static class Stats {
+        private final boolean enabled;
+        private final long usernameRejectedCount;
+        private final long ipRejectedCount;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.myboard.global.login.limiter;
+
+/**
+ * 여러 노드가 로그인 시도 횟수를 공유하기 위한 확장 지점 (Redis 등)
+ * 이 타입의 빈이 있으면 로컬 한도를 통과한 시도에 대해 한 번 더 확인한다.
+ */
+public interface SharedLoginAttemptCounter {
+
+    /**
+     * @param key "username:..." 또는 "ip:..."
+     * @return 허용하면 true
+     */
+    boolean tryAcquire(String key);
+}
@@ -0,0 +1,79 @@
+package com.example.myboard.global.login.limiter;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 키를 고정 개수의 stripe 로 나누어 거는 lock-free token bucket
+ * - stripe 하나의 상태(마지막 충전 시각 + 남은 토큰)를 long 하나에 담아 CAS 로 갱신
+ * - 메모리는 stripes * 8 byte 로 고정, 키가 아무리 많아도 늘어나지 않는다.
+ * - 오래 쓰지 않은 stripe 는 다음 접근시 가득 찬 상태로 계산되므로 따로 지울 필요가 없다. (idle eviction)
+ * - 키 해시는 인스턴스마다 다른 seed 를 써서, 다른 사람의 stripe 를 노리고 키를 고르기 어렵게 한다.
+ */
+public class StripedTokenBucket {
+
+    private static final int TOKEN_BITS = 20;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long MILLI_TOKENS = 1000;     // 토큰은 1/1000 단위로 보관
+
+    private final AtomicLongArray states;
+    private final int stripeMask;
+    private final long capacity;
+    private final double refillPerMillis;
+    private final long baseMillis;
+    private final int seed;
+
+    public StripedTokenBucket(int stripes, int capacity, double refillPerMinute) {
+        if (capacity <= 0 || capacity * MILLI_TOKENS > TOKEN_MASK) {
+            throw new IllegalArgumentException("capacity 는 1 ~ " + TOKEN_MASK / MILLI_TOKENS + " 사이여야 합니다.");
+        }
+
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.states = new AtomicLongArray(size);
+        this.stripeMask = size - 1;
+        this.capacity = capacity * MILLI_TOKENS;
+        this.refillPerMillis = refillPerMinute * MILLI_TOKENS / 60_000.0;
+        this.baseMillis = System.currentTimeMillis() - 1;
+        this.seed = ThreadLocalRandom.current().nextInt();
+    }
+
+    public boolean tryAcquire(String key) {
+        int index = stripe(key);
+        long now = System.currentTimeMillis() - baseMillis;
+
+        while (true) {
+            long state = states.get(index);
+            long tokens = available(state, now);
+
+            if (tokens < MILLI_TOKENS) {
+                return false;
+            }
+
+            long next = (now << TOKEN_BITS) | (tokens - MILLI_TOKENS);
+            if (states.compareAndSet(index, state, next)) {
+                return true;
+            }
+        }
+    }
+
+    private long available(long state, long now) {
+        if (state == 0) {
+            return capacity;    // 한 번도 쓰지 않은 stripe
+        }
+
+        long lastRefill = state >>> TOKEN_BITS;
+        long elapsed = Math.max(0, now - lastRefill);
+        return Math.min(capacity, (state & TOKEN_MASK) + (long) (elapsed * refillPerMillis));
+    }
+
+    private int stripe(String key) {
+        int h = seed;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0x01000193;
+        }
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        return h & stripeMask;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.myboard.global.monitor;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * lock-free log-linear 지연시간 히스토그램 (단위 ns)
+ * 2의 거듭제곱 구간마다 8칸으로 나누므로 상대 오차는 12.5% 이하이고, 메모리는 범위와 상관없이 고정 (약 2.5KB)
+ * 2^40ns (약 18분) 이상은 마지막 칸에 모은다.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    public void record(long nanos) {
+        buckets.incrementAndGet(indexOf(nanos));
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return value < 0 ? 0 : (int) value;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    // 칸에 들어가는 가장 큰 값
+    static long highestValueOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        long lowest = (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+        return lowest + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    /**
+     * 기록 중에도 읽을 수 있도록 복사본으로 백분위 계산
+     * @param quantiles 0.5, 0.99 ...
+     * @return quantiles 순서대로 ns 값 (기록이 없으면 0)
+     */
+    public long[] percentiles(double... quantiles) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+
+        long[] result = new long[quantiles.length];
+        if (total == 0) {
+            return result;
+        }
+
+        for (int q = 0; q < quantiles.length; q++) {
+            long rank = Math.max(1, (long) Math.ceil(quantiles[q] * total));
+            long cumulative = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                cumulative += counts[i];
+                if (cumulative >= rank) {
+                    result[q] = highestValueOf(i);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.myboard.global.monitor;
+
+import com.example.myboard.global.monitor.dto.MethodMetricsDto;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메서드 하나의 호출 수, 실패 수, 실행 중인 호출 수, 지연시간 분포
+ */
+public class MethodMetrics {
+
+    private final String name;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    MethodMetrics(String name) {
+        this.name = name;
+    }
+
+    public long start() {
+        inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    public void success(long startNanos) {
+        complete(startNanos);
+    }
+
+    public void failure(long startNanos) {
+        errorCount.increment();
+        complete(startNanos);
+    }
+
+    private void complete(long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        inFlight.decrementAndGet();
+
+        histogram.record(elapsed);
+        count.increment();
+        totalNanos.add(elapsed);
+
+        long max;
+        while (elapsed > (max = maxNanos.get()) && !maxNanos.compareAndSet(max, elapsed)) {
+            // 다른 스레드가 먼저 갱신했으면 다시 비교
+        }
+    }
+
+    public MethodMetricsDto snapshot() {
+        long[] percentiles = histogram.percentiles(0.5, 0.99, 0.999);
+        long calls = count.sum();
+
+        return MethodMetricsDto.builder()
+                .method(name)
+                .count(calls)
+                .errorCount(errorCount.sum())
+                .inFlight(inFlight.get())
+                .meanMicros(calls == 0 ? 0 : totalNanos.sum() / calls / 1000)
+                .p50Micros(percentiles[0] / 1000)
+                .p99Micros(percentiles[1] / 1000)
+                .p999Micros(percentiles[2] / 1000)
+                .maxMicros(maxNanos.get() / 1000)
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.myboard.global.monitor;
+
+import com.example.myboard.global.monitor.dto.MethodMetricsDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LogAop 포인트컷(Controller, Service, Repository) 메서드별 지연시간 통계
+ * 메서드 하나당 고정 크기(약 2.5KB) 이고, max-methods 를 넘는 메서드는 OTHER 하나로 모은다.
+ */
+@Slf4j
+@Component
+public class MethodMetricsRegistry {
+
+    static final String OTHER = "(other)";
+
+    private final boolean enabled;
+    private final int maxMethods;
+    private final int dumpTopN;
+
+    private final ConcurrentHashMap<String, MethodMetrics> metricsByMethod = new ConcurrentHashMap<>();
+    private final MethodMetrics other = new MethodMetrics(OTHER);
+
+    public MethodMetricsRegistry(@Value("${monitor.metrics.enabled:true}") boolean enabled,
+                                 @Value("${monitor.metrics.max-methods:1000}") int maxMethods,
+                                 @Value("${monitor.metrics.dump-top-n:10}") int dumpTopN) {
+        this.enabled = enabled;
+        this.maxMethods = maxMethods;
+        this.dumpTopN = dumpTopN;
+    }
+
+    /**
+     * @return 꺼져 있으면 null
+     */
+    public MethodMetrics get(String method) {
+        if (!enabled) {
+            return null;
+        }
+
+        MethodMetrics metrics = metricsByMethod.get(method);
+        if (metrics != null) {
+            return metrics;
+        }
+
+        if (metricsByMethod.size() >= maxMethods) {
+            return other;
+        }
+
+        MethodMetrics created = new MethodMetrics(method);
+        MethodMetrics existing = metricsByMethod.putIfAbsent(method, created);
+        return existing == null ? created : existing;
+    }
+
+    /**
+     * p99 가 큰 순서
+     */
+    public List<MethodMetricsDto> snapshot() {
+        List<MethodMetricsDto> snapshot = new ArrayList<>(metricsByMethod.size() + 1);
+        for (MethodMetrics metrics : metricsByMethod.values()) {
+            snapshot.add(metrics.snapshot());
+        }
+
+        MethodMetricsDto otherSnapshot = other.snapshot();
+        if (otherSnapshot.getCount() > 0) {
+            snapshot.add(otherSnapshot);
+        }
+
+        snapshot.sort(Comparator.comparingLong(MethodMetricsDto::getP99Micros).reversed());
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${monitor.metrics.dump-interval-ms:60000}")
+    public void dump() {
+        if (!enabled || metricsByMethod.isEmpty()) {
+            return;
+        }
+
+        List<MethodMetricsDto> snapshot = snapshot();
+        for (int i = 0; i < Math.min(dumpTopN, snapshot.size()); i++) {
+            MethodMetricsDto metrics = snapshot.get(i);
+            log.info("[metrics] {} count={} error={} inFlight={} mean={}us p50={}us p99={}us p999={}us max={}us",
+                    metrics.getMethod(), metrics.getCount(), metrics.getErrorCount(), metrics.getInFlight(),
+                    metrics.getMeanMicros(), metrics.getP50Micros(), metrics.getP99Micros(), metrics.getP999Micros(), metrics.getMaxMicros());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.myboard.global.monitor.controller;
+
+import com.example.myboard.domain.comment.service.CommentCompactor;
+import com.example.myboard.global.jwt.cache.VerifiedTokenCache;
+import com.example.myboard.global.log.AsyncLogSink;
+import com.example.myboard.global.login.limiter.LoginAttemptLimiter;
+import com.example.myboard.global.monitor.MethodMetricsRegistry;
+import com.example.myboard.global.monitor.dto.MethodMetricsDto;
+import com.example.myboard.global.monitor.dto.SlowRequestDto;
+import com.example.myboard.global.monitor.dto.SqlStatisticsDto;
+import com.example.myboard.global.monitor.sql.SqlStatisticsRegistry;
+import com.example.myboard.global.monitor.trace.SlowRequestStore;
+import com.example.myboard.global.password.BoundedPasswordEncoder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 운영 중 성능 지표 조회 (ADMIN 만 접근 가능)
+ */
+@RestController
+@RequiredArgsConstructor
+public class MonitorController {
+
+    private final MethodMetricsRegistry methodMetricsRegistry;
+    private final AsyncLogSink asyncLogSink;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final SlowRequestStore slowRequestStore;
+    private final SqlStatisticsRegistry sqlStatisticsRegistry;
+    private final CommentCompactor commentCompactor;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+
+    /**
+     * 메서드별 지연시간 (p99 가 큰 순서)
+     */
+    @GetMapping("/monitor/methods")
+    public ResponseEntity<List<MethodMetricsDto>> methods() {
+        return new ResponseEntity<>(methodMetricsRegistry.snapshot(), HttpStatus.OK);
+    }
+
+    /**
+     * 비동기 로그 버퍼 상태 (대기 중, 기록, 버린 개수)
+     */
+    @GetMapping("/monitor/log-sink")
+    public ResponseEntity<AsyncLogSink.Stats> logSink() {
+        return new ResponseEntity<>(asyncLogSink.stats(), HttpStatus.OK);
+    }
+
+    /**
+     * 검증된 AccessToken 캐시 상태 (크기, 적중, 실패, 축출, 만료 개수) - jwt.access.cache.max-size 조정용
+     */
+    @GetMapping("/monitor/token-cache")
+    public ResponseEntity<VerifiedTokenCache.Stats> tokenCache() {
+        return new ResponseEntity<>(verifiedTokenCache.stats(), HttpStatus.OK);
+    }
+
+    /**
+     * 최근 느린 요청의 호출 트리 (최근 것부터)
+     */
+    @GetMapping("/monitor/slow-requests")
+    public ResponseEntity<List<SlowRequestDto>> slowRequests() {
+        return new ResponseEntity<>(slowRequestStore.findRecent(), HttpStatus.OK);
+    }
+
+    /**
+     * SQL 모양별 통계 (총 시간이 큰 순서)
+     */
+    @GetMapping("/monitor/sql")
+    public ResponseEntity<List<SqlStatisticsDto>> sql() {
+        return new ResponseEntity<>(sqlStatisticsRegistry.snapshot(), HttpStatus.OK);
+    }
+
+    /**
+     * SQL 통계 초기화
+     */
+    @DeleteMapping("/monitor/sql")
+    @ResponseStatus(HttpStatus.OK)
+    public void resetSql() {
+        sqlStatisticsRegistry.reset();
+    }
+
+    /**
+     * 삭제된 댓글 정리 작업 진행 상황 (진행률, 남은 대상, 마지막 정리 후 지난 시간)
+     */
+    @GetMapping("/monitor/comment-compaction")
+    public ResponseEntity<CommentCompactor.Stats> commentCompaction() {
+        return new ResponseEntity<>(commentCompactor.stats(), HttpStatus.OK);
+    }
+
+    /**
+     * 비밀번호 해싱 스레드 풀 상태 (대기열, 거절, 시간 초과, 평균, 최대 해싱 시간)
+     */
+    @GetMapping("/monitor/password-hashing")
+    public ResponseEntity<BoundedPasswordEncoder.Stats> passwordHashing() {
+        return new ResponseEntity<>(passwordEncoder.stats(), HttpStatus.OK);
+    }
+
+    /**
+     * 로그인 시도 제한으로 거절한 개수 (아이디별, IP 별)
+     */
+    @GetMapping("/monitor/login-rate-limit")
+    public ResponseEntity<LoginAttemptLimiter.Stats> loginRateLimit() {
+        return new ResponseEntity<>(loginAttemptLimiter.stats(), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.myboard.global.monitor.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class MethodMetricsDto {
+
+    private final String method;
+    private final long count;
+    private final long errorCount;
+    private final int inFlight;
+    private final long meanMicros;
+    private final long p50Micros;
+    private final long p99Micros;
+    private final long p999Micros;
+    private final long maxMicros;
+}
@@ -0,0 +1,24 @@
+package com.example.myboard.global.monitor.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class SlowRequestDto {
+
+    private final String method;
+    private final String uri;
+    private final int status;
+    private final LocalDateTime startedAt;
+    private final long durationMillis;
+    private final String error;
+    private final int sqlCount;
+    private final long sqlMillis;
+    private final long repositoryMillis;
+    private final int droppedSpans;
+    private final List<SpanDto> spans;
+}
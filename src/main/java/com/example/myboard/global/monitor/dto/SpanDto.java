@@ -0,0 +1,17 @@
+package com.example.myboard.global.monitor.dto;
+
+import lombok.Data;
+
+/**
+ * 호출 트리의 span 하나 (depth 로 부모-자식 관계를 표현)
+ */
+@Data
+public class SpanDto {
+
+    private final int depth;
+    private final String name;
+    private final long startOffsetMicros;
+    private final long durationMicros; // 끝나지 않았으면 -1
+    private final boolean error;
+    private final int sqlCount; // 하위 호출 포함
+}
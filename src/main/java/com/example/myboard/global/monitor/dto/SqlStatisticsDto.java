@@ -0,0 +1,17 @@
+package com.example.myboard.global.monitor.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class SqlStatisticsDto {
+
+    private final String sql;
+    private final long count;
+    private final long errorCount;
+    private final long totalMillis;
+    private final long meanMicros;
+    private final long maxMicros;
+    private final long rows;
+}
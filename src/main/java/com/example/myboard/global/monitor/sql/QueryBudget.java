@@ -0,0 +1,17 @@
+package com.example.myboard.global.monitor.sql;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Controller 메서드(또는 클래스) 요청 하나에서 허용하는 최대 SQL 실행 수
+ * 넘으면 monitor.sql.budget-mode 에 따라 경고(WARN) 하거나 요청을 실패(FAIL) 시킨다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
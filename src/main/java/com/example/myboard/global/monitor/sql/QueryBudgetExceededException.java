@@ -0,0 +1,11 @@
+package com.example.myboard.global.monitor.sql;
+
+/**
+ * 요청 하나의 SQL 실행 수가 @QueryBudget 을 넘음 (monitor.sql.budget-mode=FAIL)
+ */
+public class QueryBudgetExceededException extends IllegalStateException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
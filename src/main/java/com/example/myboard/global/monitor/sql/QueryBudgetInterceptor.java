@@ -0,0 +1,53 @@
+package com.example.myboard.global.monitor.sql;
+
+import com.example.myboard.global.monitor.trace.RequestTraceRecorder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청을 처리할 Controller 메서드의 @QueryBudget 을 현재 요청에 적용 (없으면 default-budget, -1 이면 제한 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    private final RequestTraceRecorder requestTraceRecorder;
+
+    @Value("${monitor.sql.default-budget:-1}")
+    private int defaultBudget;
+
+    //== 메서드별 @QueryBudget 조회 결과 캐시 ==//
+    private final ConcurrentHashMap<Method, Integer> budgetCache = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+
+        HandlerMethod handlerMethod = (HandlerMethod) handler;
+        int budget = budgetCache.computeIfAbsent(handlerMethod.getMethod(), method -> findBudget(handlerMethod));
+
+        if (budget >= 0) {
+            requestTraceRecorder.setQueryBudget(budget, handlerMethod.getShortLogMessage());
+        }
+        return true;
+    }
+
+    private int findBudget(HandlerMethod handlerMethod) {
+        QueryBudget queryBudget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), QueryBudget.class);
+        if (queryBudget == null) {
+            queryBudget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), QueryBudget.class);
+        }
+        return queryBudget == null ? defaultBudget : queryBudget.value();
+    }
+}
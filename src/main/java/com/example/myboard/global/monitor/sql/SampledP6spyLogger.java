@@ -0,0 +1,32 @@
+package com.example.myboard.global.monitor.sql;
+
+import com.p6spy.engine.logging.Category;
+import com.p6spy.engine.spy.appender.Slf4JLogger;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * sample-rate 만큼만 SQL 원문을 남기는 p6spy appender (decorator.datasource.p6spy.custom-appender-class)
+ * p6spy 는 isCategoryEnabled 가 true 일 때만 바인딩 값을 채운 SQL 문자열을 만들므로, 샘플링되지 않은 실행은 문자열을 만들지 않는다.
+ * 통계는 SqlEventListener 가 모든 실행에 대해 따로 남긴다.
+ */
+public class SampledP6spyLogger extends Slf4JLogger {
+
+    private static volatile double sampleRate = 1.0;
+
+    static void setSampleRate(double rate) {
+        sampleRate = rate;
+    }
+
+    @Override
+    public boolean isCategoryEnabled(Category category) {
+        double rate = sampleRate;
+        if (rate <= 0) {
+            return false;
+        }
+        if (rate < 1.0 && ThreadLocalRandom.current().nextDouble() >= rate) {
+            return false;
+        }
+        return super.isCategoryEnabled(category);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.myboard.global.monitor.sql;
+
+import com.example.myboard.global.monitor.trace.RequestTraceRecorder;
+import com.p6spy.engine.common.ResultSetInformation;
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.JdbcEventListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+/**
+ * p6spy 가 감싼 DataSource 에서 실행되는 모든 SQL 을 받는다. (p6spy-spring-boot-starter 가 Bean 으로 등록된 리스너를 자동으로 연결)
+ * SQL 은 모양으로 정규화해서 요청별 추적(N+1 판단) 과 모양별 통계에 함께 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlEventListener extends JdbcEventListener {
+
+    private final RequestTraceRecorder requestTraceRecorder;
+    private final SqlStatisticsRegistry sqlStatisticsRegistry;
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        String shape = sqlStatisticsRegistry.normalize(statementInformation.getSql());
+
+        sqlStatisticsRegistry.record(shape, timeElapsedNanos, e != null);
+        requestTraceRecorder.recordSql(shape, timeElapsedNanos);
+    }
+
+    @Override
+    public void onAfterResultSetNext(ResultSetInformation resultSetInformation, long timeElapsedNanos, boolean hasNext, SQLException e) {
+        if (hasNext) {
+            sqlStatisticsRegistry.recordRow(sqlStatisticsRegistry.normalize(resultSetInformation.getSql()));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.myboard.global.monitor.sql;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL 을 모양(shape) 으로 정규화
+ * - 문자열, 숫자 리터럴 -> ?
+ * - IN (?, ?, ?) 처럼 이어진 ? 목록 -> (?)
+ * - 주석 제거, 공백은 하나로
+ * Hibernate 가 만드는 SQL 은 몇 종류뿐이므로 원문별 결과를 max-cache-size 개까지 캐시한다.
+ */
+public class SqlNormalizer {
+
+    private final int maxCacheSize;
+    private final ConcurrentHashMap<String, String> cache = new ConcurrentHashMap<>();
+
+    public SqlNormalizer(int maxCacheSize) {
+        this.maxCacheSize = maxCacheSize;
+    }
+
+    public String normalize(String sql) {
+        if (sql == null) {
+            return null;
+        }
+
+        String shape = cache.get(sql);
+        if (shape != null) {
+            return shape;
+        }
+
+        shape = normalizeUncached(sql);
+        if (cache.size() < maxCacheSize) {
+            cache.putIfAbsent(sql, shape);
+        }
+        return shape;
+    }
+
+    static String normalizeUncached(String sql) {
+        int length = sql.length();
+        StringBuilder out = new StringBuilder(length);
+        int i = 0;
+
+        while (i < length) {
+            char c = sql.charAt(i);
+
+            // 문자열 리터럴 ('' 는 escape)
+            if (c == '\'') {
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                i++;
+                appendPlaceholder(out);
+                continue;
+            }
+
+            // 주석
+            if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                continue;
+            }
+            if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                int end = sql.indexOf('\n', i + 2);
+                i = end < 0 ? length : end + 1;
+                continue;
+            }
+
+            // 공백
+            if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (out.length() > 0 && out.charAt(out.length() - 1) != ' ') {
+                    out.append(' ');
+                }
+                continue;
+            }
+
+            // 숫자 리터럴 (식별자 안의 숫자는 제외 : comment0_, comment_1_2_)
+            if (Character.isDigit(c) && !isIdentifierPart(out)) {
+                while (i < length && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                appendPlaceholder(out);
+                continue;
+            }
+
+            if (c == '?') {
+                appendPlaceholder(out);
+                i++;
+                continue;
+            }
+
+            out.append(Character.toLowerCase(c));
+            i++;
+        }
+
+        int end = out.length();
+        while (end > 0 && out.charAt(end - 1) == ' ') {
+            end--;
+        }
+        out.setLength(end);
+        return out.toString();
+    }
+
+    private static boolean isIdentifierPart(StringBuilder out) {
+        if (out.length() == 0) {
+            return false;
+        }
+        char previous = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$';
+    }
+
+    // "?, ?" 처럼 이어지면 앞의 ? 하나로 합침
+    private static void appendPlaceholder(StringBuilder out) {
+        int end = out.length();
+        while (end > 0 && out.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (end > 0 && out.charAt(end - 1) == ',') {
+            int beforeComma = end - 1;
+            while (beforeComma > 0 && out.charAt(beforeComma - 1) == ' ') {
+                beforeComma--;
+            }
+            if (beforeComma > 0 && out.charAt(beforeComma - 1) == '?') {
+                out.setLength(beforeComma);
+                return;
+            }
+        }
+        out.append('?');
+    }
+}
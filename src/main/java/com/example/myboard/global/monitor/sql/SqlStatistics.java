@@ -0,0 +1,55 @@
+package com.example.myboard.global.monitor.sql;
+
+import com.example.myboard.global.monitor.dto.SqlStatisticsDto;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL 모양 하나의 누적 통계
+ */
+class SqlStatistics {
+
+    private final String shape;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    SqlStatistics(String shape) {
+        this.shape = shape;
+    }
+
+    void record(long elapsedNanos, boolean error) {
+        count.increment();
+        totalNanos.add(elapsedNanos);
+        if (error) {
+            errorCount.increment();
+        }
+
+        long max;
+        while (elapsedNanos > (max = maxNanos.get()) && !maxNanos.compareAndSet(max, elapsedNanos)) {
+            // 다른 스레드가 먼저 갱신했으면 다시 비교
+        }
+    }
+
+    void recordRow() {
+        rows.increment();
+    }
+
+    SqlStatisticsDto snapshot() {
+        long calls = count.sum();
+        long total = totalNanos.sum();
+
+        return SqlStatisticsDto.builder()
+                .sql(shape)
+                .count(calls)
+                .errorCount(errorCount.sum())
+                .totalMillis(total / 1_000_000)
+                .meanMicros(calls == 0 ? 0 : total / calls / 1000)
+                .maxMicros(maxNanos.get() / 1000)
+                .rows(rows.sum())
+                .build();
+    }
+}
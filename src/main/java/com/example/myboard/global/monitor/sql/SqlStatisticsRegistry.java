@@ -0,0 +1,99 @@
+package com.example.myboard.global.monitor.sql;
+
+import com.example.myboard.global.monitor.dto.SqlStatisticsDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL 모양별 실행 수, 총/평균/최대 시간, 읽은 row 수 (H2 용 pg_stat_statements)
+ * max-shapes 를 넘는 모양은 OTHER 하나로 모은다.
+ */
+@Component
+public class SqlStatisticsRegistry {
+
+    static final String OTHER = "(other)";
+
+    private final boolean enabled;
+    private final int maxShapes;
+    private final double logSampleRate;
+    private final SqlNormalizer sqlNormalizer;
+
+    private final ConcurrentHashMap<String, SqlStatistics> statisticsByShape = new ConcurrentHashMap<>();
+    private volatile SqlStatistics other = new SqlStatistics(OTHER);
+
+    public SqlStatisticsRegistry(@Value("${monitor.sql.statistics.enabled:true}") boolean enabled,
+                                 @Value("${monitor.sql.statistics.max-shapes:1000}") int maxShapes,
+                                 @Value("${monitor.sql.log-sample-rate:1.0}") double logSampleRate) {
+        this.enabled = enabled;
+        this.maxShapes = maxShapes;
+        this.logSampleRate = logSampleRate;
+        this.sqlNormalizer = new SqlNormalizer(maxShapes * 4);
+    }
+
+    // p6spy 가 직접 만드는 appender 라 Bean 주입 대신 여기서 비율을 넘겨준다
+    @PostConstruct
+    public void init() {
+        SampledP6spyLogger.setSampleRate(logSampleRate);
+    }
+
+    public String normalize(String sql) {
+        return sqlNormalizer.normalize(sql);
+    }
+
+    public void record(String shape, long elapsedNanos, boolean error) {
+        if (enabled && shape != null) {
+            statistics(shape).record(elapsedNanos, error);
+        }
+    }
+
+    public void recordRow(String shape) {
+        if (enabled && shape != null) {
+            statistics(shape).recordRow();
+        }
+    }
+
+    private SqlStatistics statistics(String shape) {
+        SqlStatistics statistics = statisticsByShape.get(shape);
+        if (statistics != null) {
+            return statistics;
+        }
+
+        if (statisticsByShape.size() >= maxShapes) {
+            return other;
+        }
+
+        SqlStatistics created = new SqlStatistics(shape);
+        SqlStatistics existing = statisticsByShape.putIfAbsent(shape, created);
+        return existing == null ? created : existing;
+    }
+
+    /**
+     * 총 시간이 큰 순서
+     */
+    public List<SqlStatisticsDto> snapshot() {
+        List<SqlStatisticsDto> snapshot = new ArrayList<>(statisticsByShape.size() + 1);
+        for (SqlStatistics statistics : statisticsByShape.values()) {
+            snapshot.add(statistics.snapshot());
+        }
+
+        SqlStatisticsDto otherSnapshot = other.snapshot();
+        if (otherSnapshot.getCount() > 0) {
+            snapshot.add(otherSnapshot);
+        }
+
+        snapshot.sort(Comparator.comparingLong(SqlStatisticsDto::getTotalMillis).reversed()
+                .thenComparing(Comparator.comparingLong(SqlStatisticsDto::getCount).reversed()));
+        return snapshot;
+    }
+
+    public void reset() {
+        statisticsByShape.clear();
+        other = new SqlStatistics(OTHER);
+    }
+}
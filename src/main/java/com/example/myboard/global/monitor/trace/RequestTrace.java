@@ -0,0 +1,316 @@
+package com.example.myboard.global.monitor.trace;
+
+import com.example.myboard.global.monitor.dto.SlowRequestDto;
+import com.example.myboard.global.monitor.dto.SpanDto;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 요청 하나의 호출 트리 (스레드마다 하나를 만들어 요청마다 재사용)
+ * 느린 요청만 SlowRequestDto 로 복사하고, 나머지는 배열을 비우기만 한다.
+ */
+class RequestTrace {
+
+    private final int maxSpans;
+    private final int repeatThreshold;
+
+    private String method;
+    private String uri;
+    private long startNanos;
+    private long startEpochMillis;
+    private boolean active;
+
+    //== SQL, Repository 시간 ==//
+    private int sqlCount;
+    private long sqlNanos;
+    private long repositoryNanos;
+    private int repositoryDepth;
+    private long repositoryStartNanos;
+
+    //== span : 배열 index 순서가 호출 순서, depth 로 트리를 표현 ==//
+    private String[] names = new String[16];
+    private int[] depths = new int[16];
+    private long[] startOffsets = new long[16];
+    private long[] durations = new long[16];
+    private boolean[] errors = new boolean[16];
+    private int[] spanSqlCounts = new int[16];
+    private int spanCount;
+    private int droppedSpans;
+
+    // 열려 있는 span 의 index (maxSpans 를 넘어 기록하지 않은 span 은 -1)
+    private int[] openSpans = new int[16];
+    // 열려 있는 span 이 Repository 호출인지 (기록하지 않은 span 도 Repository 시간은 계산해야 한다)
+    private boolean[] openRepositories = new boolean[16];
+    private int depth;
+
+    //== 같은 모양의 SQL 반복 횟수 (N+1 의심) : open addressing ==//
+    private String[] shapes = new String[64];
+    private int[] shapeCounts = new int[64];
+    private int shapeSize;
+    private final List<RepeatedSql> repeatedSqls = new ArrayList<>();
+
+    //== 요청에 적용할 SQL 수 제한 (QueryBudget, 없으면 -1) ==//
+    private int queryBudget;
+    private String queryBudgetOwner;
+
+    RequestTrace(int maxSpans, int repeatThreshold) {
+        this.maxSpans = maxSpans;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    void begin(String method, String uri) {
+        this.method = method;
+        this.uri = uri;
+        this.startNanos = System.nanoTime();
+        this.startEpochMillis = System.currentTimeMillis();
+        this.active = true;
+        this.sqlCount = 0;
+        this.sqlNanos = 0;
+        this.repositoryNanos = 0;
+        this.repositoryDepth = 0;
+        this.spanCount = 0;
+        this.droppedSpans = 0;
+        this.depth = 0;
+        this.queryBudget = -1;
+        this.queryBudgetOwner = null;
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    void enter(String name, boolean repository) {
+        long now = System.nanoTime();
+
+        if (repository && repositoryDepth++ == 0) {
+            repositoryStartNanos = now;
+        }
+
+        int index = -1;
+        if (spanCount < maxSpans) {
+            index = spanCount++;
+            ensureSpanCapacity(spanCount);
+            names[index] = name;
+            depths[index] = depth;
+            startOffsets[index] = now - startNanos;
+            durations[index] = -1;
+            errors[index] = false;
+            spanSqlCounts[index] = 0;
+        } else {
+            droppedSpans++;
+        }
+
+        if (depth == openSpans.length) {
+            openSpans = Arrays.copyOf(openSpans, depth * 2);
+            openRepositories = Arrays.copyOf(openRepositories, depth * 2);
+        }
+        openRepositories[depth] = repository;
+        openSpans[depth++] = index;
+    }
+
+    void exit(boolean error) {
+        if (depth == 0) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        int index = openSpans[--depth];
+
+        if (index >= 0) {
+            durations[index] = now - startNanos - startOffsets[index];
+            errors[index] = error;
+        }
+
+        if (openRepositories[depth] && --repositoryDepth == 0) {
+            repositoryNanos += now - repositoryStartNanos;
+        }
+    }
+
+    /**
+     * @param shape 같은 모양끼리 같은 문자열 (바인딩 값이 빠진 SQL)
+     */
+    void recordSql(String shape, long elapsedNanos) {
+        sqlCount++;
+        sqlNanos += elapsedNanos;
+
+        // 열려 있는 span 모두에 포함 (span 의 SQL 수는 하위 호출 포함)
+        for (int i = 0; i < depth; i++) {
+            if (openSpans[i] >= 0) {
+                spanSqlCounts[openSpans[i]]++;
+            }
+        }
+
+        if (shape != null && countShape(shape) == repeatThreshold) {
+            repeatedSqls.add(new RepeatedSql(shape, innermostSpanName()));
+        }
+    }
+
+    private int countShape(String shape) {
+        if (shapeSize * 2 >= shapes.length) {
+            growShapes();
+        }
+
+        int mask = shapes.length - 1;
+        int i = shape.hashCode() & mask;
+        while (shapes[i] != null) {
+            if (shapes[i].equals(shape)) {
+                return ++shapeCounts[i];
+            }
+            i = (i + 1) & mask;
+        }
+
+        shapes[i] = shape;
+        shapeCounts[i] = 1;
+        shapeSize++;
+        return 1;
+    }
+
+    private void growShapes() {
+        String[] oldShapes = shapes;
+        int[] oldCounts = shapeCounts;
+        shapes = new String[oldShapes.length * 2];
+        shapeCounts = new int[oldShapes.length * 2];
+
+        int mask = shapes.length - 1;
+        for (int j = 0; j < oldShapes.length; j++) {
+            if (oldShapes[j] == null) {
+                continue;
+            }
+            int i = oldShapes[j].hashCode() & mask;
+            while (shapes[i] != null) {
+                i = (i + 1) & mask;
+            }
+            shapes[i] = oldShapes[j];
+            shapeCounts[i] = oldCounts[j];
+        }
+    }
+
+    // 가장 안쪽의 기록된 span 이름
+    private String innermostSpanName() {
+        for (int i = depth - 1; i >= 0; i--) {
+            if (openSpans[i] >= 0) {
+                return names[openSpans[i]];
+            }
+        }
+        return null;
+    }
+
+    List<RepeatedSql> getRepeatedSqls() {
+        return repeatedSqls;
+    }
+
+    // 반복 횟수까지 포함
+    int countOf(String shape) {
+        int mask = shapes.length - 1;
+        int i = shape.hashCode() & mask;
+        while (shapes[i] != null) {
+            if (shapes[i].equals(shape)) {
+                return shapeCounts[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return 0;
+    }
+
+    void setQueryBudget(int queryBudget, String owner) {
+        this.queryBudget = queryBudget;
+        this.queryBudgetOwner = owner;
+    }
+
+    int getQueryBudget() {
+        return queryBudget;
+    }
+
+    String getQueryBudgetOwner() {
+        return queryBudgetOwner;
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    int getSqlCount() {
+        return sqlCount;
+    }
+
+    String getMethod() {
+        return method;
+    }
+
+    String getUri() {
+        return uri;
+    }
+
+    void end() {
+        active = false;
+        for (int i = 0; i < spanCount; i++) {
+            names[i] = null;
+        }
+
+        if (shapeSize > 0) {
+            Arrays.fill(shapes, null);
+            shapeSize = 0;
+        }
+        repeatedSqls.clear();
+    }
+
+    SlowRequestDto toDto(long durationNanos, int status, Throwable error) {
+        List<SpanDto> spans = new ArrayList<>(spanCount);
+        for (int i = 0; i < spanCount; i++) {
+            spans.add(new SpanDto(depths[i], names[i], startOffsets[i] / 1000,
+                    durations[i] < 0 ? -1 : durations[i] / 1000, errors[i], spanSqlCounts[i]));
+        }
+
+        return SlowRequestDto.builder()
+                .method(method)
+                .uri(uri)
+                .status(status)
+                .startedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(startEpochMillis), ZoneId.systemDefault()))
+                .durationMillis(durationNanos / 1_000_000)
+                .error(error == null ? null : error.toString())
+                .sqlCount(sqlCount)
+                .sqlMillis(sqlNanos / 1_000_000)
+                .repositoryMillis(repositoryNanos / 1_000_000)
+                .droppedSpans(droppedSpans)
+                .spans(spans)
+                .build();
+    }
+
+    private void ensureSpanCapacity(int size) {
+        if (size <= names.length) {
+            return;
+        }
+
+        int capacity = Math.min(maxSpans, names.length * 2);
+        names = Arrays.copyOf(names, capacity);
+        depths = Arrays.copyOf(depths, capacity);
+        startOffsets = Arrays.copyOf(startOffsets, capacity);
+        durations = Arrays.copyOf(durations, capacity);
+        errors = Arrays.copyOf(errors, capacity);
+        spanSqlCounts = Arrays.copyOf(spanSqlCounts, capacity);
+    }
+
+    //== 요청 안에서 repeatThreshold 번 반복된 SQL 과 처음 반복을 일으킨 span ==//
+    static final class RepeatedSql {
+        private final String shape;
+        private final String spanName;
+
+        RepeatedSql(String shape, String spanName) {
+            this.shape = shape;
+            this.spanName = spanName;
+        }
+
+        String getShape() {
+            return shape;
+        }
+
+        String getSpanName() {
+            return spanName;
+        }
+    }
+}
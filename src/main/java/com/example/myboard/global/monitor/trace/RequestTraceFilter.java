@@ -0,0 +1,41 @@
+package com.example.myboard.global.monitor.trace;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 요청 단위 추적의 시작과 끝 (로그인 필터 등 Spring Security 필터 시간도 포함하도록 가장 먼저 실행)
+ * 응답을 보낸 뒤 QueryBudget 을 확인하므로, FAIL 모드의 예외는 클라이언트가 아닌 테스트(MockMvc) 에서 드러난다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+    private final RequestTraceRecorder requestTraceRecorder;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        requestTraceRecorder.begin(request.getMethod(), request.getRequestURI());
+
+        Throwable error = null;
+        try {
+            filterChain.doFilter(request, response);
+            requestTraceRecorder.checkQueryBudget();
+        } catch (IOException | ServletException | RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            requestTraceRecorder.end(error == null ? response.getStatus() : HttpServletResponse.SC_INTERNAL_SERVER_ERROR, error);
+        }
+    }
+}
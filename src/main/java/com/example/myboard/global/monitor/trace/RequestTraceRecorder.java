@@ -0,0 +1,173 @@
+package com.example.myboard.global.monitor.trace;
+
+import com.example.myboard.global.log.AsyncLogSink;
+import com.example.myboard.global.monitor.dto.SlowRequestDto;
+import com.example.myboard.global.monitor.dto.SpanDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 LogAop span 트리, SQL 실행 수/시간, Repository 안에서 보낸 시간을 메모리에만 기록하고
+ * threshold-ms 를 넘거나 예외(또는 5xx) 로 끝난 요청만 로그와 SlowRequestStore 에 남긴다. (tail-based)
+ * - 같은 모양의 SQL 이 요청 안에서 n-plus-one-threshold 번 이상 반복되면 N+1 의심으로 경고
+ * - @QueryBudget 으로 정한 SQL 수를 넘으면 경고하거나(WARN) 요청을 실패시킨다(FAIL, 테스트용)
+ * 요청 밖(스케줄러 등) 에서의 호출은 기록하지 않는다.
+ */
+@Slf4j
+@Component
+public class RequestTraceRecorder {
+
+    public enum BudgetMode {
+        WARN, FAIL
+    }
+
+    private final boolean enabled;
+    private final long thresholdNanos;
+    private final int maxSpans;
+    private final int repeatThreshold;
+    private final BudgetMode budgetMode;
+    private final SlowRequestStore slowRequestStore;
+    private final AsyncLogSink asyncLogSink;
+
+    private final ThreadLocal<RequestTrace> traceHolder;
+
+    public RequestTraceRecorder(@Value("${monitor.slow-request.enabled:true}") boolean enabled,
+                                @Value("${monitor.slow-request.threshold-ms:500}") long thresholdMillis,
+                                @Value("${monitor.slow-request.max-spans:256}") int maxSpans,
+                                @Value("${monitor.sql.n-plus-one-threshold:10}") int repeatThreshold,
+                                @Value("${monitor.sql.budget-mode:WARN}") BudgetMode budgetMode,
+                                SlowRequestStore slowRequestStore,
+                                AsyncLogSink asyncLogSink) {
+        this.enabled = enabled;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.maxSpans = maxSpans;
+        this.repeatThreshold = repeatThreshold;
+        this.budgetMode = budgetMode;
+        this.slowRequestStore = slowRequestStore;
+        this.asyncLogSink = asyncLogSink;
+        this.traceHolder = ThreadLocal.withInitial(() -> new RequestTrace(this.maxSpans, this.repeatThreshold));
+    }
+
+    public void begin(String method, String uri) {
+        if (enabled) {
+            traceHolder.get().begin(method, uri);
+        }
+    }
+
+    public void enter(String name, boolean repository) {
+        RequestTrace trace = current();
+        if (trace != null) {
+            trace.enter(name, repository);
+        }
+    }
+
+    public void exit(boolean error) {
+        RequestTrace trace = current();
+        if (trace != null) {
+            trace.exit(error);
+        }
+    }
+
+    public void recordSql(String shape, long elapsedNanos) {
+        RequestTrace trace = current();
+        if (trace != null) {
+            trace.recordSql(shape, elapsedNanos);
+        }
+    }
+
+    public void setQueryBudget(int queryBudget, String owner) {
+        RequestTrace trace = current();
+        if (trace != null) {
+            trace.setQueryBudget(queryBudget, owner);
+        }
+    }
+
+    /**
+     * 요청이 끝난 뒤 SQL 수가 QueryBudget 을 넘었는지 확인
+     * @throws QueryBudgetExceededException FAIL 모드에서 넘었을 때
+     */
+    public void checkQueryBudget() {
+        RequestTrace trace = current();
+        if (trace == null || trace.getQueryBudget() < 0 || trace.getSqlCount() <= trace.getQueryBudget()) {
+            return;
+        }
+
+        String message = String.format("SQL 실행 수가 제한을 넘었습니다. %s %s (%s) sql=%d budget=%d",
+                trace.getMethod(), trace.getUri(), trace.getQueryBudgetOwner(), trace.getSqlCount(), trace.getQueryBudget());
+
+        if (budgetMode == BudgetMode.FAIL) {
+            throw new QueryBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+
+    /**
+     * @return 느린 요청으로 기록했으면 true
+     */
+    public boolean end(int status, Throwable error) {
+        RequestTrace trace = current();
+        if (trace == null) {
+            return false;
+        }
+
+        try {
+            for (RequestTrace.RepeatedSql repeated : trace.getRepeatedSqls()) {
+                log.warn("[n+1] {} {} 같은 SQL 이 {} 번 실행되었습니다. span:{} sql:{}",
+                        trace.getMethod(), trace.getUri(), trace.countOf(repeated.getShape()), repeated.getSpanName(), repeated.getShape());
+            }
+
+            long durationNanos = trace.elapsedNanos();
+            if (durationNanos < thresholdNanos && error == null && status < 500) {
+                return false;
+            }
+
+            SlowRequestDto slowRequest = trace.toDto(durationNanos, status, error);
+            slowRequestStore.add(slowRequest);
+            asyncLogSink.info(log, "[slow-request] {}", format(slowRequest));
+            return true;
+        } finally {
+            trace.end();
+        }
+    }
+
+    RequestTrace current() {
+        if (!enabled) {
+            return null;
+        }
+
+        RequestTrace trace = traceHolder.get();
+        return trace.isActive() ? trace : null;
+    }
+
+    private static String format(SlowRequestDto slowRequest) {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append(slowRequest.getMethod()).append(' ').append(slowRequest.getUri())
+                .append(" status=").append(slowRequest.getStatus())
+                .append(" time=").append(slowRequest.getDurationMillis()).append("ms")
+                .append(" sql=").append(slowRequest.getSqlCount()).append('/').append(slowRequest.getSqlMillis()).append("ms")
+                .append(" repository=").append(slowRequest.getRepositoryMillis()).append("ms");
+
+        if (slowRequest.getError() != null) {
+            sb.append(" error=").append(slowRequest.getError());
+        }
+
+        for (SpanDto span : slowRequest.getSpans()) {
+            sb.append('\n');
+            for (int i = 0; i < span.getDepth(); i++) {
+                sb.append("| ");
+            }
+            sb.append(span.getName()).append(" time=").append(span.getDurationMicros()).append("us");
+            if (span.isError()) {
+                sb.append(" ex");
+            }
+        }
+
+        if (slowRequest.getDroppedSpans() > 0) {
+            sb.append("\n... ").append(slowRequest.getDroppedSpans()).append(" spans dropped");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.myboard.global.monitor.trace;
+
+import com.example.myboard.global.monitor.dto.SlowRequestDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 최근 느린 요청 (capacity 개를 넘으면 오래된 것부터 버림)
+ */
+@Component
+public class SlowRequestStore {
+
+    private final int capacity;
+    private final ArrayDeque<SlowRequestDto> recent;
+
+    public SlowRequestStore(@Value("${monitor.slow-request.capacity:100}") int capacity) {
+        this.capacity = capacity;
+        this.recent = new ArrayDeque<>(capacity);
+    }
+
+    public synchronized void add(SlowRequestDto slowRequest) {
+        if (recent.size() == capacity) {
+            recent.pollFirst();
+        }
+        recent.addLast(slowRequest);
+    }
+
+    /**
+     * 최근 것부터
+     */
+    public synchronized List<SlowRequestDto> findRecent() {
+        List<SlowRequestDto> result = new ArrayList<>(recent);
+        Collections.reverse(result);
+        return result;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.myboard.global.password;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 현재 하드웨어에서 한 번 해싱하는 시간이 targetMillis 를 넘지 않는 가장 큰 bcrypt work factor 를 찾는다.
+ * work factor 가 1 오를 때마다 시간이 2배가 되므로, 목표를 넘는 순간 멈춘다. (최소값보다 낮추지는 않음)
+ */
+@Slf4j
+public class BcryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        int chosen = minStrength;
+
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+            encoder.encode(SAMPLE_PASSWORD);    // warm up
+
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            if (elapsedMillis > targetMillis) {
+                break;
+            }
+            chosen = strength;
+        }
+
+        log.info("bcrypt work factor 를 {} 로 설정합니다. (목표 {}ms)", chosen, targetMillis);
+        return chosen;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.myboard.global.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 오래 걸리는 주기 작업(정리, 재계산)을 스케줄러 스레드가 아닌 전용 스레드에서 실행
+ * - @Scheduled 메서드는 작업을 넘기고 바로 반환하므로, 토큰 동기화나 RefreshToken flush 같은 짧은 작업이 밀리지 않는다.
+ * - 같은 이름의 작업이 아직 대기 중이거나 실행 중이면 새로 넣지 않는다. (대기열이 쌓이지 않음)
+ */
+@Slf4j
+@Component
+public class BackgroundJobRunner {
+
+    private final ThreadPoolExecutor executor;
+    private final Set<String> submitted = ConcurrentHashMap.newKeySet();
+
+    public BackgroundJobRunner(@Value("${scheduling.background.threads:2}") int threads) {
+        int poolSize = Math.max(1, threads);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "background-job-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * @return 작업을 넣었으면 true, 같은 이름의 작업이 이미 있거나 종료 중이면 false
+     */
+    public boolean submit(String name, Runnable job) {
+        if (!submitted.add(name)) {
+            return false;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    job.run();
+                } catch (RuntimeException e) {
+                    log.error("[scheduling] 백그라운드 작업이 실패했습니다. name:{}", name, e);
+                } finally {
+                    submitted.remove(name);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            submitted.remove(name);
+            return false;
+        }
+    }
+
+    // 쉬고 있는 작업(CommentCompactor 의 throttle 등)은 interrupt 로 깨워서 끝낸다
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdownNow();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("[scheduling] 백그라운드 작업이 10초 안에 끝나지 않았습니다. {}", submitted);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.myboard.global.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 lock-free Bloom filter
+ * mightContain 이 false 면 확실히 없음, true 면 있을 수도 있음 (오탐률 falsePositiveRate)
+ * 삭제는 지원하지 않으므로, 필요하면 새로 만들어서 교체한다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+
+        this.bitSize = Math.max(64, (m + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (bitSize / 64));
+    }
+
+    public void put(String key) {
+        long hash1 = hash1(key);
+        long hash2 = hash2(key);
+
+        for (int i = 0; i < hashCount; i++) {
+            long bitIndex = Math.floorMod(hash1 + i * hash2, bitSize);
+            int wordIndex = (int) (bitIndex >>> 6);
+            long mask = 1L << bitIndex;
+
+            long word;
+            do {
+                word = bits.get(wordIndex);
+                if ((word & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(wordIndex, word, word | mask));
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash1 = hash1(key);
+        long hash2 = hash2(key);
+
+        for (int i = 0; i < hashCount; i++) {
+            long bitIndex = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //== 서로 독립적인 두 해시로 k 개의 해시를 만든다 (double hashing) ==//
+    private static long hash1(String key) {
+        long h = 0xcbf29ce484222325L;   // FNV-1a 64
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    private static long hash2(String key) {
+        long h = key.hashCode() * 0x9E3779B97F4A7C15L;
+        h ^= (h >>> 32);
+        return h | 1;   // 0 이 되면 모든 해시가 같아지므로 홀수로
+    }
+}
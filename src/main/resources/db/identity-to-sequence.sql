@@ -0,0 +1,12 @@
+-- IDENTITY -> SEQUENCE(pooled, allocationSize 50) 전환 (H2, ddl-auto: none 인 운영 DB 용)
+-- 1. 서버를 내리고 이 스크립트를 실행
+-- 2. 서버를 올리면 IdSequenceAligner 가 시퀀스를 max(id) 뒤로 옮긴다 (jpa.sequence.align-on-startup)
+
+ALTER TABLE MEMBER ALTER COLUMN MEMBER_ID DROP IDENTITY;
+ALTER TABLE POST ALTER COLUMN POST_ID DROP IDENTITY;
+ALTER TABLE COMMENT ALTER COLUMN COMMENT_ID DROP IDENTITY;
+
+CREATE SEQUENCE IF NOT EXISTS MEMBER_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS POST_SEQ START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS COMMENT_SEQ START WITH 1 INCREMENT BY 50;
+
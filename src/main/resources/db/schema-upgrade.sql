@@ -0,0 +1,66 @@
+-- 새로 추가된 컬럼, 테이블 (H2, ddl-auto: none 인 운영 DB 용)
+-- 새 버전의 서버를 올리기 전에 실행한다. 여러 번 실행해도 된다.
+
+-- COMMENT.live_child_count : 삭제되지 않은 대댓글 수
+-- 기존 댓글은 실제 대댓글 수로 채운 뒤에 서버를 올린다. (0 으로 두면 첫 재계산 전까지 대댓글 수가 틀린다)
+ALTER TABLE COMMENT ADD COLUMN IF NOT EXISTS LIVE_CHILD_COUNT INT DEFAULT 0 NOT NULL;
+
+UPDATE COMMENT C SET LIVE_CHILD_COUNT =
+    (SELECT COUNT(*) FROM COMMENT R WHERE R.PARENT_ID = C.COMMENT_ID AND R.IS_REMOVED = FALSE);
+
+-- 삭제 표시된 최상위 댓글 정리용 (CommentCompactor, live_child_count 로 후보를 줄인다)
+DROP INDEX IF EXISTS IDX_COMMENT_IS_REMOVED_PARENT_ID;
+CREATE INDEX IF NOT EXISTS IDX_COMMENT_REMOVABLE_ROOT ON COMMENT (IS_REMOVED, PARENT_ID, LIVE_CHILD_COUNT);
+
+-- POST.comment_count : 게시글별 댓글 수 (PostCommentCounter), 기존 게시글은 실제 댓글 수로 채운다
+ALTER TABLE POST ADD COLUMN IF NOT EXISTS COMMENT_COUNT BIGINT DEFAULT 0 NOT NULL;
+
+UPDATE POST P SET COMMENT_COUNT = (SELECT COUNT(*) FROM COMMENT C WHERE C.POST_ID = P.POST_ID);
+
+-- POST.comment_count 에 반영한 증감 기록 (같은 flush_id 를 두 번 반영하지 않도록)
+CREATE TABLE IF NOT EXISTS POST_COMMENT_COUNT_JOURNAL (
+    JOURNAL_ID BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    FLUSH_ID VARCHAR(36) NOT NULL,
+    POST_ID BIGINT NOT NULL,
+    DELTA BIGINT NOT NULL,
+    APPLIED_AT TIMESTAMP NOT NULL
+);
+CREATE UNIQUE INDEX IF NOT EXISTS UK_POST_COMMENT_COUNT_JOURNAL ON POST_COMMENT_COUNT_JOURNAL (FLUSH_ID, POST_ID);
+CREATE INDEX IF NOT EXISTS IDX_POST_COMMENT_COUNT_JOURNAL_APPLIED_AT ON POST_COMMENT_COUNT_JOURNAL (APPLIED_AT);
+
+-- 게시글별 댓글 목록 키셋 페이지네이션용
+CREATE INDEX IF NOT EXISTS IDX_COMMENT_POST_ID_COMMENT_ID ON COMMENT (POST_ID, COMMENT_ID);
+
+-- 발급한 RefreshToken (토큰 원문 대신 SHA-256 해시만 저장)
+-- 기존 MEMBER 에 저장된 refresh token 은 옮기지 않는다. (배포 후 한 번 다시 로그인)
+CREATE TABLE IF NOT EXISTS REFRESH_TOKEN (
+    REFRESH_TOKEN_ID BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    TOKEN_HASH VARCHAR(64) NOT NULL,
+    JTI VARCHAR(36) NOT NULL,
+    MEMBER_ID BIGINT NOT NULL,
+    EXPIRES_AT TIMESTAMP NOT NULL
+);
+CREATE UNIQUE INDEX IF NOT EXISTS UK_REFRESH_TOKEN_HASH ON REFRESH_TOKEN (TOKEN_HASH);
+CREATE INDEX IF NOT EXISTS IDX_REFRESH_TOKEN_MEMBER ON REFRESH_TOKEN (MEMBER_ID);
+CREATE INDEX IF NOT EXISTS IDX_REFRESH_TOKEN_EXPIRES_AT ON REFRESH_TOKEN (EXPIRES_AT);
+
+-- 로그아웃 등으로 폐기된 AccessToken 의 jti (만료되면 정리)
+CREATE TABLE IF NOT EXISTS REVOKED_TOKEN (
+    JTI VARCHAR(36) PRIMARY KEY,
+    EXPIRES_AT TIMESTAMP NOT NULL,
+    REVOKED_AT TIMESTAMP NOT NULL
+);
+CREATE INDEX IF NOT EXISTS IDX_REVOKED_TOKEN_REVOKED_AT ON REVOKED_TOKEN (REVOKED_AT);
+CREATE INDEX IF NOT EXISTS IDX_REVOKED_TOKEN_EXPIRES_AT ON REVOKED_TOKEN (EXPIRES_AT);
+
+-- 댓글 스레드 closure 테이블 (CommentClosureIndex)
+-- comment.closure.enabled 이면 서버가 뜰 때 댓글과 맞지 않는 경우 다시 채운다.
+CREATE TABLE IF NOT EXISTS COMMENT_CLOSURE (
+    ANCESTOR_ID BIGINT NOT NULL,
+    DESCENDANT_ID BIGINT NOT NULL,
+    DEPTH INT NOT NULL,
+    PRIMARY KEY (ANCESTOR_ID, DESCENDANT_ID)
+);
+CREATE INDEX IF NOT EXISTS IDX_COMMENT_CLOSURE_DESCENDANT ON COMMENT_CLOSURE (DESCENDANT_ID, DEPTH);
+
+-- MEMBER, POST, COMMENT 의 id 생성 방식 변경은 db/identity-to-sequence.sql 을 따로 실행한다.
@@ -0,0 +1,128 @@
+package com.example.myboard.domain.comment.service;
+
+import com.example.myboard.domain.comment.Comment;
+import com.example.myboard.domain.comment.dto.CommentTreeDto;
+import com.example.myboard.domain.comment.repository.CommentClosureRepository;
+import com.example.myboard.domain.comment.repository.CommentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "comment.closure.enabled=true")
+@Transactional
+class CommentClosureIndexTest {
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    CommentClosureRepository commentClosureRepository;
+
+    @Autowired
+    CommentClosureIndex commentClosureIndex;
+
+    @Autowired
+    EntityManager em;
+
+    private void clear() {
+        em.flush();
+        em.clear();
+    }
+
+    private Long saveComment(Long parentId) {
+        Comment parent = parentId == null ? null : commentRepository.findById(parentId).orElse(null);
+        Comment comment = Comment.builder().content("댓글").parent(parent).build();
+        commentService.save(comment);
+        return comment.getId();
+    }
+
+    @Test
+    public void 하위댓글_조회_개수_깊이() throws Exception {
+        // given
+        Long root = saveComment(null);
+        Long child1 = saveComment(root);
+        Long child2 = saveComment(root);
+        Long grandChild = saveComment(child1);
+        saveComment(null);
+        clear();
+
+        // when
+        CommentTreeDto subtree = commentService.findSubtree(root);
+
+        // then
+        assertThat(commentService.countSubtree(root)).isEqualTo(4L);
+        assertThat(commentService.countSubtree(child1)).isEqualTo(2L);
+        assertThat(commentService.depthOf(root)).isEqualTo(0);
+        assertThat(commentService.depthOf(grandChild)).isEqualTo(2);
+        assertThat(subtree.getCommentId()).isEqualTo(root);
+        assertThat(subtree.getChildren()).extracting(CommentTreeDto::getCommentId).containsExactly(child1, child2);
+        assertThat(subtree.getChildren().get(0).getChildren()).extracting(CommentTreeDto::getCommentId).containsExactly(grandChild);
+    }
+
+    @Test
+    public void 하위댓글_일괄삭제() throws Exception {
+        // given
+        Long root = saveComment(null);
+        Long child = saveComment(root);
+        Long grandChild = saveComment(child);
+        Long other = saveComment(null);
+        clear();
+
+        // when
+        int deleted = commentService.removeSubtree(child);
+        clear();
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(commentRepository.findById(child)).isEmpty();
+        assertThat(commentRepository.findById(grandChild)).isEmpty();
+        assertThat(commentService.countSubtree(root)).isEqualTo(1L);
+        assertThat(commentService.findById(root).getLiveChildCount()).isEqualTo(0);
+        assertThat(commentService.findById(other)).isNotNull();
+        assertThrows(Exception.class, () -> commentService.depthOf(grandChild));
+    }
+
+    @Test
+    public void 색인을_parent_id_로부터_다시_만들기() throws Exception {
+        // given
+        Long root = saveComment(null);
+        Long child = saveComment(root);
+        saveComment(child);
+        clear();
+        long paths = commentClosureRepository.count();
+
+        // when
+        long rebuilt = commentClosureIndex.rebuild();
+
+        // then
+        assertThat(rebuilt).isEqualTo(paths);
+        assertThat(commentService.countSubtree(root)).isEqualTo(3L);
+    }
+
+    @Test
+    public void 색인이_비어있지_않아도_빠진_댓글이_있으면_다시_만들기() throws Exception {
+        // given : 색인이 꺼져 있던 동안 등록된 것처럼 대댓글의 경로를 지운다
+        Long root = saveComment(null);
+        Long child = saveComment(root);
+        clear();
+        commentClosureRepository.deleteByDescendantIdIn(Collections.singletonList(child));
+        clear();
+
+        // when
+        commentClosureIndex.run(null);
+
+        // then
+        assertThat(commentService.countSubtree(root)).isEqualTo(2L);
+        assertThat(commentService.depthOf(child)).isEqualTo(1);
+    }
+}
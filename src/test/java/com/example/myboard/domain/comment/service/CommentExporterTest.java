@@ -0,0 +1,62 @@
+package com.example.myboard.domain.comment.service;
+
+import com.example.myboard.domain.comment.Comment;
+import com.example.myboard.domain.post.Post;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class CommentExporterTest {
+
+    @Autowired
+    CommentExporter commentExporter;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    EntityManager em;
+
+    @Test
+    public void 게시글_댓글을_한줄에_하나씩_내보내기() throws Exception {
+        // given
+        Post post = Post.builder().title("제목").content("내용").build();
+        em.persist(post);
+        Comment parent = Comment.builder().content("댓글").post(post).build();
+        em.persist(parent);
+        for (int i = 0; i < 2500; i++) {
+            em.persist(Comment.builder().content("대댓글" + i).post(post).parent(parent).build());
+        }
+        em.flush();
+        em.clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = commentExporter.export(post.getId(), out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8.name()).split("\n");
+        assertThat(count).isEqualTo(2501L);
+        assertThat(lines.length).isEqualTo(2501);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("commentId").asLong()).isEqualTo(parent.getId());
+        assertThat(first.get("parentId").isNull()).isTrue();
+
+        JsonNode last = objectMapper.readTree(lines[2500]);
+        assertThat(last.get("parentId").asLong()).isEqualTo(parent.getId());
+        assertThat(last.get("content").asText()).isEqualTo("대댓글2499");
+    }
+}
@@ -1,16 +1,30 @@
 package com.example.myboard.domain.comment.service;
 
 import com.example.myboard.domain.comment.Comment;
+import com.example.myboard.domain.comment.dto.CommentCreateDto;
+import com.example.myboard.domain.comment.dto.CommentListDto;
+import com.example.myboard.domain.comment.dto.CommentSliceDto;
+import com.example.myboard.domain.comment.dto.CommentTreeDto;
 import com.example.myboard.domain.comment.repository.CommentRepository;
+import com.example.myboard.domain.member.Member;
+import com.example.myboard.domain.member.role.Role;
+import com.example.myboard.domain.post.Post;
 
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 
 import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.LongStream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -25,6 +39,12 @@ class CommentServiceImplTest {
     @Autowired
     CommentRepository commentRepository;
 
+    @Autowired
+    CommentCounterReconciler commentCounterReconciler;
+
+    @Autowired
+    CommentCompactor commentCompactor;
+
     @Autowired
     EntityManager em;
 
@@ -33,6 +53,12 @@ class CommentServiceImplTest {
         em.clear();
     }
 
+    // 삭제 표시된 댓글 정리 작업을 바로 실행
+    private void compact() {
+        commentCompactor.compact();
+        clear();
+    }
+
     private Long saveComment() {
         Comment comment = Comment.builder().content("댓글").build();
         Long id = commentRepository.save(comment).getId();
@@ -44,7 +70,8 @@ class CommentServiceImplTest {
         Comment parent = commentRepository.findById(parentId).orElse(null);
         Comment comment = Comment.builder().content("댓글").parent(parent).build();
 
-        Long id = commentRepository.save(comment).getId();
+        commentService.save(comment);
+        Long id = comment.getId();
         clear();
 
         return id;
@@ -66,7 +93,7 @@ class CommentServiceImplTest {
 
         //when
         commentService.remove(commentId);
-        clear();
+        compact();
 
         //then
         Comment findComment = commentService.findById(commentId);
@@ -84,7 +111,7 @@ class CommentServiceImplTest {
 
         //when
         commentService.remove(commentId);
-        clear();
+        compact();
 
         //then
         Assertions.assertThat(commentService.findAll().size()).isEqualTo(0);
@@ -128,7 +155,7 @@ class CommentServiceImplTest {
 
         //when
         commentService.remove(commentId);
-        clear();
+        compact();
 
         //then
         LongStream.rangeClosed(commentId, reComment4Id).forEach(id ->
@@ -146,7 +173,7 @@ class CommentServiceImplTest {
 
         //when
         commentService.remove(reCommentId);
-        clear();
+        compact();
 
         //then
         Assertions.assertThat(commentService.findById(commentId)).isNotNull();
@@ -179,7 +206,7 @@ class CommentServiceImplTest {
 
         //when
         commentService.remove(reComment1d);
-        clear();
+        compact();
 
         //then
         LongStream.rangeClosed(commentId, reComment3d).forEach(id ->
@@ -208,6 +235,7 @@ class CommentServiceImplTest {
 
         //when
         commentService.remove(reComment2d);
+        compact();
         Assertions.assertThat(commentService.findById(commentId)).isNotNull();
 
         //then
@@ -218,5 +246,276 @@ class CommentServiceImplTest {
         Assertions.assertThat(commentService.findById(commentId).getId()).isNotNull();
     }
 
+    @Test
+    public void 댓글삭제는_삭제표시만_하고_정리작업이_DB_에서_삭제() throws Exception {
+        // given
+        Long commentId = saveComment();
+
+        // when
+        commentService.remove(commentId);
+        clear();
+
+        // then
+        assertThat(commentService.findById(commentId).isRemoved()).isTrue();
+
+        compact();
+        assertThat(assertThrows(Exception.class, () -> commentService.findById(commentId)).getMessage()).isEqualTo("댓글이 없습니다.");
+        assertThat(commentCompactor.stats().getDeletedInPass()).isGreaterThanOrEqualTo(1L);
+    }
+
+    @Test
+    public void 댓글삭제_삭제된_대댓글이_많아도_한번에_삭제() throws Exception {
+        // given
+        Long commentId = saveComment();
+        Comment parent = commentRepository.getById(commentId);
+        for (int i = 0; i < 100; i++) {
+            Comment reComment = Comment.builder().content("대댓글").parent(parent).build();
+            reComment.remove();
+            commentRepository.save(reComment);
+        }
+        clear();
+
+        // when
+        commentService.remove(commentId);
+        compact();
+
+        // then
+        assertThat(commentRepository.count()).isEqualTo(0L);
+    }
+
+    @Test
+    public void 정리작업은_어긋난_대댓글수를_믿지_않는다() throws Exception {
+        // given
+        Long commentId = saveComment();
+        Long reCommentId = saveReComment(commentId);
+        commentService.remove(commentId);
+        em.createQuery("update Comment c set c.liveChildCount = 0 where c.id = :id").setParameter("id", commentId).executeUpdate();
+        clear();
+
+        // when
+        compact();
+
+        // then
+        assertThat(commentService.findById(commentId).isRemoved()).isTrue();
+        assertThat(commentService.findById(reCommentId).isRemoved()).isFalse();
+    }
+
+    @Test
+    public void 대대댓글까지_모두_삭제된_스레드도_정리() throws Exception {
+        // given
+        Long commentId = saveComment();
+        Long reCommentId = saveReComment(commentId);
+        Long reReCommentId = saveReComment(reCommentId);
+        Long liveThreadId = saveComment();
+        Long liveReCommentId = saveReComment(liveThreadId);
+        Long liveReReCommentId = saveReComment(liveReCommentId);
+
+        commentService.remove(reReCommentId);
+        commentService.remove(reCommentId);
+        commentService.remove(commentId);
+        commentService.remove(liveReCommentId);
+        commentService.remove(liveThreadId);
+        clear();
+
+        // when
+        compact();
+
+        // then
+        Assertions.assertThat(commentRepository.findById(commentId)).isEmpty();
+        Assertions.assertThat(commentRepository.findById(reCommentId)).isEmpty();
+        Assertions.assertThat(commentRepository.findById(reReCommentId)).isEmpty();
+        assertThat(commentService.findById(liveThreadId).isRemoved()).isTrue();   // 대대댓글이 남아 있으므로 스레드 전체를 남긴다
+        assertThat(commentService.findById(liveReCommentId).isRemoved()).isTrue();
+        assertThat(commentService.findById(liveReReCommentId).isRemoved()).isFalse();
+    }
+
+    @Test
+    public void 대댓글_등록과_삭제시_살아있는_대댓글수_증감() throws Exception {
+        // given
+        Long commentId = saveComment();
+        Long reComment1Id = saveReComment(commentId);
+        saveReComment(commentId);
+        assertThat(commentService.findById(commentId).getLiveChildCount()).isEqualTo(2);
+
+        // when
+        commentService.remove(reComment1Id);
+        commentService.remove(reComment1Id);   // 이미 삭제된 대댓글은 다시 빼지 않음
+        clear();
+
+        // then
+        assertThat(commentService.findById(commentId).getLiveChildCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void 계층색인이_꺼져있으면_하위댓글_일괄삭제는_대댓글수를_바꾸지_않는다() throws Exception {
+        // given : comment.closure.enabled 기본값 false
+        Long commentId = saveComment();
+        Long reCommentId = saveReComment(commentId);
+
+        // when
+        assertThrows(Exception.class, () -> commentService.removeSubtree(reCommentId));
+        clear();
+
+        // then
+        assertThat(commentService.findById(commentId).getLiveChildCount()).isEqualTo(1);
+        assertThat(commentService.findById(reCommentId)).isNotNull();
+    }
+
+    @Test
+    public void 어긋난_살아있는_대댓글수를_재계산() throws Exception {
+        // given
+        Long commentId = saveComment();
+        saveReComment(commentId);
+        saveReComment(commentId);
+        em.createQuery("update Comment c set c.liveChildCount = 7 where c.id = :id").setParameter("id", commentId).executeUpdate();
+        clear();
+
+        // when
+        long repaired = commentCounterReconciler.reconcile();
+        clear();
+
+        // then
+        assertThat(repaired).isEqualTo(1L);
+        assertThat(commentService.findById(commentId).getLiveChildCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void 대댓글수가_크게_어긋난_스레드는_재계산_뒤에_정리() throws Exception {
+        // given
+        Long commentId = saveComment();
+        Long reCommentId = saveReComment(commentId);
+        commentService.remove(reCommentId);
+        commentService.remove(commentId);
+        em.createQuery("update Comment c set c.liveChildCount = 1 where c.id = :id").setParameter("id", commentId).executeUpdate();
+        clear();
+
+        // when
+        compact();
+        boolean keptBeforeReconcile = commentRepository.findById(commentId).isPresent();
+        commentCounterReconciler.reconcile();
+        compact();
+
+        // then
+        assertThat(keptBeforeReconcile).isTrue();
+        assertThat(commentRepository.count()).isEqualTo(0L);
+    }
+
+    private Post savePost() {
+        Post post = Post.builder().title("제목").content("내용").build();
+        em.persist(post);
+        return post;
+    }
+
+    private Long saveComment(Post post) {
+        Comment comment = Comment.builder().content("댓글").post(post).build();
+        return commentRepository.save(comment).getId();
+    }
 
-}
\ No newline at end of file
+    @Test
+    public void 게시글_댓글목록_키셋_페이지네이션() throws Exception {
+        // given
+        Post post = savePost();
+        Post otherPost = savePost();
+        Long first = saveComment(post);
+        for (int i = 0; i < 4; i++) {
+            saveComment(post);
+        }
+        saveComment(otherPost);
+        Comment reComment = Comment.builder().content("대댓글").post(post).parent(commentRepository.getById(first)).build();
+        commentRepository.save(reComment);
+        clear();
+
+        // when
+        CommentSliceDto page1 = commentService.findCommentsByPost(post.getId(), null, 2);
+        CommentSliceDto page2 = commentService.findCommentsByPost(post.getId(), page1.getLastCommentId(), 2);
+        CommentSliceDto page3 = commentService.findCommentsByPost(post.getId(), page2.getLastCommentId(), 2);
+
+        // then
+        assertThat(page1.getComments().size()).isEqualTo(2);
+        assertThat(page1.isHasNext()).isTrue();
+        assertThat(page1.getComments().get(0).getCommentId()).isEqualTo(first);
+        assertThat(page2.getComments().size()).isEqualTo(2);
+        assertThat(page2.isHasNext()).isTrue();
+        assertThat(page3.getComments().size()).isEqualTo(1);    // 대댓글과 다른 게시글의 댓글은 포함되지 않음
+        assertThat(page3.isHasNext()).isFalse();
+        assertThat(page2.getComments().get(0).getCommentId()).isGreaterThan(page1.getLastCommentId());
+    }
+
+    @Test
+    public void 게시글_댓글목록_삭제된_댓글은_내용을_가린다() throws Exception {
+        // given
+        Post post = savePost();
+        Long commentId = saveComment(post);
+        commentRepository.findById(commentId).get().remove();
+        clear();
+
+        // when
+        CommentListDto comment = commentService.findCommentsByPost(post.getId(), null, 10).getComments().get(0);
+
+        // then
+        assertThat(comment.isRemoved()).isTrue();
+        assertThat(comment.getContent()).isEqualTo(CommentListDto.REMOVED_CONTENT);
+        assertThat(comment.getWriterNickName()).isNull();
+    }
+
+    @Test
+    public void 게시글_댓글트리_조회() throws Exception {
+        // given
+        Post post = savePost();
+        Long first = saveComment(post);
+        Long second = saveComment(post);
+        Comment reComment = commentRepository.save(Comment.builder().content("대댓글").post(post).parent(commentRepository.getById(first)).build());
+        commentRepository.save(Comment.builder().content("대대댓글").post(post).parent(reComment).build());
+        clear();
+
+        // when
+        List<CommentTreeDto> tree = commentService.findCommentTree(post.getId());
+
+        // then
+        assertThat(tree.size()).isEqualTo(2);
+        assertThat(tree.get(0).getCommentId()).isEqualTo(first);
+        assertThat(tree.get(1).getCommentId()).isEqualTo(second);
+        assertThat(tree.get(0).getChildren().get(0).getCommentId()).isEqualTo(reComment.getId());
+        assertThat(tree.get(0).getChildren().get(0).getChildren().size()).isEqualTo(1);
+    }
+
+    private Member setMember() {
+        Member member = Member.builder().username("username").password("password").name("name").nickName("nickName").age(22).role(Role.USER).build();
+        em.persist(member);
+
+        SecurityContext emptyContext = SecurityContextHolder.createEmptyContext();
+        emptyContext.setAuthentication(new UsernamePasswordAuthenticationToken(
+                User.builder().username("username").password("password").roles(Role.USER.name()).build(), null, null));
+        SecurityContextHolder.setContext(emptyContext);
+        return member;
+    }
+
+    @AfterEach
+    public void removeMember() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void 댓글_일괄등록() throws Exception {
+        // given
+        Member member = setMember();
+        Post post = savePost();
+        Long parentId = saveComment(post);
+        clear();
+
+        List<CommentCreateDto> dtos = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            dtos.add(new CommentCreateDto("댓글" + i, i % 2 == 0 ? parentId : null));
+        }
+
+        // when
+        List<Long> ids = commentService.saveAll(post.getId(), dtos);
+        clear();
+
+        // then
+        assertThat(ids.size()).isEqualTo(120);
+        assertThat(commentService.findById(parentId).getLiveChildCount()).isEqualTo(60);
+        assertThat(commentService.findById(ids.get(1)).getWriter().getId()).isEqualTo(member.getId());
+        assertThat(commentService.findCommentsByPost(post.getId(), null, 100).getComments().size()).isEqualTo(61);
+    }
+}
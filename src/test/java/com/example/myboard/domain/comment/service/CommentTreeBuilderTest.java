@@ -0,0 +1,59 @@
+package com.example.myboard.domain.comment.service;
+
+import com.example.myboard.domain.comment.dto.CommentFlatDto;
+import com.example.myboard.domain.comment.dto.CommentTreeDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommentTreeBuilderTest {
+
+    private CommentFlatDto row(long id, Long parentId) {
+        return new CommentFlatDto(id, parentId, "댓글" + id, false, null, null);
+    }
+
+    @Test
+    public void 부모와_자식을_id_순으로_연결() throws Exception {
+        // given
+        List<CommentFlatDto> rows = Arrays.asList(
+                row(1, null), row(2, null), row(3, 1L), row(4, 3L), row(5, 1L), row(6, 2L));
+
+        // when
+        List<CommentTreeDto> roots = CommentTreeBuilder.build(rows);
+
+        // then
+        assertThat(roots).extracting(CommentTreeDto::getCommentId).containsExactly(1L, 2L);
+        assertThat(roots.get(0).getChildren()).extracting(CommentTreeDto::getCommentId).containsExactly(3L, 5L);
+        assertThat(roots.get(0).getChildren().get(0).getChildren()).extracting(CommentTreeDto::getCommentId).containsExactly(4L);
+        assertThat(roots.get(1).getChildren()).extracting(CommentTreeDto::getCommentId).containsExactly(6L);
+        assertThat(roots.get(0).getChildren().get(1).getChildren()).isEmpty();
+    }
+
+    @Test
+    public void 부모가_윈도우_밖이면_루트로_올리고_parentId_유지() throws Exception {
+        // given
+        List<CommentFlatDto> rows = Arrays.asList(row(10, 3L), row(11, null), row(12, 10L));
+
+        // when
+        List<CommentTreeDto> roots = CommentTreeBuilder.build(rows);
+
+        // then
+        assertThat(roots).extracting(CommentTreeDto::getCommentId).containsExactly(10L, 11L);
+        assertThat(roots.get(0).getParentId()).isEqualTo(3L);
+        assertThat(roots.get(0).getChildren()).extracting(CommentTreeDto::getCommentId).containsExactly(12L);
+    }
+
+    @Test
+    public void 결과_트리는_수정할_수_없다() throws Exception {
+        // given
+        List<CommentTreeDto> roots = CommentTreeBuilder.build(Arrays.asList(row(1, null), row(2, 1L)));
+
+        // when, then
+        assertThatThrownBy(() -> roots.add(null)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> roots.get(0).getChildren().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -6,6 +6,7 @@ import com.example.myboard.domain.member.dto.MemberSignUpDto;
 import com.example.myboard.domain.member.dto.MemberUpdateDto;
 import com.example.myboard.domain.member.repository.MemberRepository;
 import com.example.myboard.domain.member.role.Role;
+import com.example.myboard.domain.token.service.RefreshTokenService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -40,6 +41,9 @@ class MemberServiceImplTest {
     @Autowired
     PasswordEncoder passwordEncoder;
 
+    @Autowired
+    RefreshTokenService refreshTokenService;
+
     String PASSWORD = "password";
 
     private void clear() {
@@ -146,6 +150,22 @@ class MemberServiceImplTest {
         assertThat(findMember.matchPassword(passwordEncoder, toBePassword)).isTrue();
     }
 
+    @Test
+    public void 회원수정_비밀번호수정시_RefreshToken_삭제() throws Exception {
+        //given
+        MemberSignUpDto memberSignUpDto = setMember();
+        Long memberId = memberRepository.findByUsername(memberSignUpDto.getUsername()).orElseThrow(() -> new Exception()).getId();
+        refreshTokenService.save(memberId, "refreshToken", "jti", System.currentTimeMillis() + 60_000);
+        clear();
+
+        //when
+        memberService.updatePassword(PASSWORD, "12345678899!@#!##");
+        clear();
+
+        //then
+        assertThat(refreshTokenService.findMemberId("refreshToken").isPresent()).isFalse();
+    }
+
     @Test
     public void 회원수정_이름만수정() throws Exception {
         //given
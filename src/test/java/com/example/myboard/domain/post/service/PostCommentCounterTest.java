@@ -0,0 +1,103 @@
+package com.example.myboard.domain.post.service;
+
+import com.example.myboard.domain.comment.Comment;
+import com.example.myboard.domain.post.Post;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class PostCommentCounterTest {
+
+    @Autowired
+    PostCommentCounter postCommentCounter;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManager em;
+
+    private Long savePost() {
+        Post post = Post.builder().title("제목").content("내용").build();
+        em.persist(post);
+        em.flush();
+        return post.getId();
+    }
+
+    private long commentCountOf(Long postId) {
+        return jdbcTemplate.queryForObject("select comment_count from post where post_id = ?", Long.class, postId);
+    }
+
+    @Test
+    public void 모아둔_증감을_flush_하면_반영() throws Exception {
+        // given
+        Long postId = savePost();
+        postCommentCounter.add(postId, 1);
+        postCommentCounter.add(postId, 1);
+        postCommentCounter.add(postId, -1);
+        postCommentCounter.add(postId, 1);
+        assertThat(postCommentCounter.pendingDelta(postId)).isEqualTo(2L);
+
+        // when
+        postCommentCounter.flush();
+
+        // then
+        assertThat(commentCountOf(postId)).isEqualTo(2L);
+        assertThat(postCommentCounter.pendingDelta(postId)).isZero();
+    }
+
+    @Test
+    public void 같은_flushId_는_한번만_반영() throws Exception {
+        // given
+        Long postId = savePost();
+
+        // when
+        postCommentCounter.apply("flush-1", Collections.singletonList(postId), Collections.singletonList(5L));
+        postCommentCounter.apply("flush-1", Collections.singletonList(postId), Collections.singletonList(5L));
+
+        // then
+        assertThat(commentCountOf(postId)).isEqualTo(5L);
+    }
+
+    @Test
+    public void 게시글을_수정해도_반영된_댓글수를_덮어쓰지_않는다() throws Exception {
+        // given
+        Long postId = savePost();
+        Post post = em.find(Post.class, postId);
+        postCommentCounter.add(postId, 3);
+        postCommentCounter.flush();
+
+        // when
+        post.updateTitle("수정된 제목");
+        em.flush();
+
+        // then
+        assertThat(commentCountOf(postId)).isEqualTo(3L);
+    }
+
+    @Test
+    public void 어긋난_댓글수를_실제_댓글수로_재계산() throws Exception {
+        // given
+        Long postId = savePost();
+        Post post = em.find(Post.class, postId);
+        em.persist(Comment.builder().content("댓글").post(post).build());
+        em.persist(Comment.builder().content("댓글").post(post).build());
+        em.flush();
+
+        // when
+        long repaired = postCommentCounter.reconcile();
+
+        // then
+        assertThat(repaired).isGreaterThanOrEqualTo(1L);
+        assertThat(commentCountOf(postId)).isEqualTo(2L);
+    }
+}
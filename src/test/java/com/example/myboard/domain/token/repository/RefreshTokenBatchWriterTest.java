@@ -0,0 +1,60 @@
+package com.example.myboard.domain.token.repository;
+
+import com.example.myboard.domain.token.service.RefreshTokenService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.transaction.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "jwt.refresh.write-behind.enabled=true")
+@Transactional
+class RefreshTokenBatchWriterTest {
+
+    @Autowired
+    RefreshTokenService refreshTokenService;
+
+    @Autowired
+    RefreshTokenBatchWriter refreshTokenBatchWriter;
+
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+
+    private static final Long MEMBER_ID = 1L;
+
+    @Test
+    public void 쓰이기_전에도_조회되고_flush_하면_저장() throws Exception {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        long before = refreshTokenRepository.count();
+        refreshTokenService.save(MEMBER_ID, "refreshToken1", "jti1", expiresAt);
+        refreshTokenService.save(MEMBER_ID, "refreshToken2", "jti2", expiresAt);
+
+        // when, then
+        assertThat(refreshTokenService.findMemberId("refreshToken1")).contains(MEMBER_ID);
+
+        refreshTokenBatchWriter.flush();
+
+        assertThat(refreshTokenBatchWriter.pendingCount()).isZero();
+        assertThat(refreshTokenRepository.count()).isEqualTo(before + 2);
+        assertThat(refreshTokenService.findMemberId("refreshToken2")).contains(MEMBER_ID);
+    }
+
+    @Test
+    public void 쓰이기_전에_삭제된_토큰은_저장하지_않음() throws Exception {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        long before = refreshTokenRepository.count();
+        refreshTokenService.save(MEMBER_ID, "refreshToken1", "jti1", expiresAt);
+
+        // when
+        refreshTokenService.delete("refreshToken1");
+        refreshTokenBatchWriter.flush();
+
+        // then
+        assertThat(refreshTokenRepository.count()).isEqualTo(before);
+        assertThat(refreshTokenService.findMemberId("refreshToken1")).isEmpty();
+    }
+}
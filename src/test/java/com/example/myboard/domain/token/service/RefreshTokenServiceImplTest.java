@@ -0,0 +1,80 @@
+package com.example.myboard.domain.token.service;
+
+import com.example.myboard.domain.token.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class RefreshTokenServiceImplTest {
+
+    @Autowired
+    RefreshTokenService refreshTokenService;
+
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    EntityManager em;
+
+    private static final Long MEMBER_ID = 1L;
+
+    private void clear() {
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void 회원_한명이_여러_RefreshToken_을_가질_수_있다() throws Exception {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        refreshTokenService.save(MEMBER_ID, "refreshToken1", "jti1", expiresAt);
+        refreshTokenService.save(MEMBER_ID, "refreshToken2", "jti2", expiresAt);
+        clear();
+
+        // when, then
+        assertThat(refreshTokenService.findMemberId("refreshToken1")).contains(MEMBER_ID);
+        assertThat(refreshTokenService.findMemberId("refreshToken2")).contains(MEMBER_ID);
+        assertThat(refreshTokenService.findMemberId("refreshToken3")).isEmpty();
+    }
+
+    @Test
+    public void 만료된_RefreshToken_은_조회되지_않고_purge_로_삭제() throws Exception {
+        // given
+        refreshTokenService.save(MEMBER_ID, "expired", "jti1", System.currentTimeMillis() - 1000);
+        refreshTokenService.save(MEMBER_ID, "valid", "jti2", System.currentTimeMillis() + 60_000);
+        clear();
+
+        // when
+        assertThat(refreshTokenService.findMemberId("expired")).isEmpty();
+        refreshTokenService.purgeExpired();
+        clear();
+
+        // then
+        assertThat(refreshTokenRepository.count()).isEqualTo(1);
+        assertThat(refreshTokenService.findMemberId("valid")).contains(MEMBER_ID);
+    }
+
+    @Test
+    public void 회원의_RefreshToken_모두_삭제() throws Exception {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        refreshTokenService.save(MEMBER_ID, "refreshToken1", "jti1", expiresAt);
+        refreshTokenService.save(MEMBER_ID, "refreshToken2", "jti2", expiresAt);
+        clear();
+
+        // when
+        refreshTokenService.deleteAllByMemberId(MEMBER_ID);
+        clear();
+
+        // then
+        assertThat(refreshTokenService.findMemberId("refreshToken1")).isEmpty();
+        assertThat(refreshTokenService.findMemberId("refreshToken2")).isEmpty();
+    }
+}
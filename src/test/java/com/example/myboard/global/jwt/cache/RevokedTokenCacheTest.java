@@ -0,0 +1,48 @@
+package com.example.myboard.global.jwt.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevokedTokenCacheTest {
+
+    @Test
+    public void 폐기된_jti_는_항상_폐기로_판단() throws Exception {
+        // given
+        RevokedTokenCache cache = new RevokedTokenCache(1000, 0.01);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        String[] jtis = new String[5000];
+
+        // when
+        for (int i = 0; i < jtis.length; i++) {
+            jtis[i] = UUID.randomUUID().toString();
+            cache.add(jtis[i], expiresAt);
+        }
+
+        // then
+        for (String jti : jtis) {
+            assertThat(cache.isRevoked(jti)).isTrue();
+        }
+        assertThat(cache.isRevoked(UUID.randomUUID().toString())).isFalse();
+        assertThat(cache.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    public void 만료된_jti_는_정리되고_폐기로_판단하지_않음() throws Exception {
+        // given
+        RevokedTokenCache cache = new RevokedTokenCache(1000, 0.01);
+        cache.add("expiring", System.currentTimeMillis() + 50);
+        cache.add("alive", System.currentTimeMillis() + 60_000);
+
+        // when
+        Thread.sleep(100);
+        int removed = cache.removeExpired();
+
+        // then
+        assertThat(removed).isEqualTo(1);
+        assertThat(cache.isRevoked("expiring")).isFalse();
+        assertThat(cache.isRevoked("alive")).isTrue();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.myboard.global.jwt.cache;
+
+import com.example.myboard.global.jwt.dto.TokenClaims;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private TokenClaims claims(long expiresAtMillis) {
+        return new TokenClaims("AccessToken", null, "username", expiresAtMillis);
+    }
+
+    @Test
+    public void 두번째_요청부터는_검증하지_않고_캐시에서_반환() throws Exception {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        AtomicInteger verifyCount = new AtomicInteger();
+        TokenClaims claims = claims(System.currentTimeMillis() + 60_000);
+
+        // when
+        cache.getOrVerify("token", token -> { verifyCount.incrementAndGet(); return Optional.of(claims); });
+        Optional<TokenClaims> cached = cache.getOrVerify("token", token -> { verifyCount.incrementAndGet(); return Optional.of(claims); });
+
+        // then
+        assertThat(cached).contains(claims);
+        assertThat(verifyCount.get()).isEqualTo(1);
+        assertThat(cache.stats().getHitCount()).isEqualTo(1);
+        assertThat(cache.stats().getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void 검증에_실패한_토큰은_캐시하지_않음() throws Exception {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        AtomicInteger verifyCount = new AtomicInteger();
+
+        // when
+        cache.getOrVerify("forged", token -> { verifyCount.incrementAndGet(); return Optional.empty(); });
+        cache.getOrVerify("forged", token -> { verifyCount.incrementAndGet(); return Optional.empty(); });
+
+        // then
+        assertThat(verifyCount.get()).isEqualTo(2);
+        assertThat(cache.stats().getSize()).isZero();
+    }
+
+    @Test
+    public void 만료된_항목은_다시_검증() throws Exception {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        AtomicInteger verifyCount = new AtomicInteger();
+        TokenClaims claims = claims(System.currentTimeMillis() + 50);
+        cache.getOrVerify("token", token -> { verifyCount.incrementAndGet(); return Optional.of(claims); });
+
+        // when
+        Thread.sleep(100);
+        Optional<TokenClaims> result = cache.getOrVerify("token", token -> { verifyCount.incrementAndGet(); return Optional.empty(); });
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(verifyCount.get()).isEqualTo(2);
+        assertThat(cache.stats().getExpirationCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void 최대_크기를_넘으면_축출() throws Exception {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 16);
+        TokenClaims claims = claims(System.currentTimeMillis() + 60_000);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            cache.getOrVerify("token" + i, token -> Optional.of(claims));
+        }
+
+        // then
+        assertThat(cache.stats().getSize()).isLessThanOrEqualTo(16);
+        assertThat(cache.stats().getEvictionCount()).isEqualTo(1000 - cache.stats().getSize());
+    }
+
+    @Test
+    public void 이전_형식_허용시각이_지나면_캐시된_토큰도_다시_검증() throws Exception {
+        // given : 이전 형식으로 검증되어 100ms 뒤까지만 허용되는 토큰
+        VerifiedTokenCache cache = new VerifiedTokenCache(true, 100);
+        AtomicInteger verifyCount = new AtomicInteger();
+        TokenClaims claims = claims(System.currentTimeMillis() + 60_000).acceptedUntil(System.currentTimeMillis() + 100);
+        cache.getOrVerify("token", token -> { verifyCount.incrementAndGet(); return Optional.of(claims); });
+
+        // when : 허용 시각이 지난 뒤에는 이전 형식 검증이 실패
+        Thread.sleep(200);
+        Optional<TokenClaims> result = cache.getOrVerify("token", token -> { verifyCount.incrementAndGet(); return Optional.empty(); });
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(verifyCount.get()).isEqualTo(2);
+    }
+}
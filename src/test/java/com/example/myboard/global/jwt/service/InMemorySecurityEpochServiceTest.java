@@ -0,0 +1,41 @@
+package com.example.myboard.global.jwt.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemorySecurityEpochServiceTest {
+
+    InMemorySecurityEpochService securityEpochService = new InMemorySecurityEpochService();
+
+    @Test
+    public void epoch_가_없으면_모든_토큰이_유효() throws Exception {
+        assertThat(securityEpochService.isCurrent(1L, 0L)).isTrue();
+    }
+
+    @Test
+    public void epoch_를_올리면_이전에_발급된_토큰은_무효() throws Exception {
+        // given
+        long issuedBefore = System.currentTimeMillis() - 1000;
+
+        // when
+        securityEpochService.advance(1L);
+
+        // then
+        assertThat(securityEpochService.isCurrent(1L, issuedBefore)).isFalse();
+        assertThat(securityEpochService.isCurrent(1L, System.currentTimeMillis() + 1000)).isTrue();
+        assertThat(securityEpochService.isCurrent(2L, issuedBefore)).isTrue();
+    }
+
+    @Test
+    public void 같은_초에_다시_발급된_토큰은_유효() throws Exception {
+        // given
+        securityEpochService.advance(1L);
+
+        // when
+        long issuedAtSeconds = System.currentTimeMillis() / 1000 * 1000;   // JWT iat 는 초 단위
+
+        // then
+        assertThat(securityEpochService.isCurrent(1L, issuedAtSeconds)).isTrue();
+    }
+}
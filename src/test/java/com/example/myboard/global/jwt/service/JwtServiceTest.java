@@ -5,6 +5,8 @@ import com.auth0.jwt.interfaces.DecodedJWT;
 import com.example.myboard.domain.member.Member;
 import com.example.myboard.domain.member.repository.MemberRepository;
 import com.example.myboard.domain.member.role.Role;
+import com.example.myboard.global.jwt.dto.IssuedToken;
+import com.example.myboard.global.jwt.dto.TokenClaims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -98,6 +100,18 @@ public class JwtServiceTest {
         assertThat(username).isNotNull();
     }
 
+    @Test
+    public void issueRefreshToken_발급시_클레임이_검증결과와_같다() throws Exception {
+        // given, when
+        IssuedToken issued = jwtService.issueRefreshToken();
+        TokenClaims verified = jwtService.verifyRefreshToken(issued.getToken()).get();
+
+        // then
+        assertThat(issued.getClaims().getJti()).isEqualTo(verified.getJti());
+        assertThat(issued.getClaims().getExpiresAtMillis()).isEqualTo(verified.getExpiresAtMillis());
+        assertThat(issued.getClaims().getSubject()).isEqualTo(verified.getSubject());
+    }
+
     @Test
     public void updateRefreshToken_refreshToken_업데이트() throws Exception {
         // given
@@ -212,4 +226,31 @@ public class JwtServiceTest {
         assertThat(getVerify(extractToken).getClaim(USERNAME_CLAIM).asString()).isEqualTo(username);
     }
 
+    //== 한 번 검증하여 클레임 추출 ==//
+    @Test
+    public void verifyAccessToken_검증된_클레임_반환() throws Exception {
+        // given
+        String accessToken = jwtService.createAccessToken(username);
+
+        // when
+        TokenClaims claims = jwtService.verifyAccessToken(accessToken).orElseThrow(() -> new Exception("검증 실패"));
+
+        // then
+        assertThat(claims.getUsername()).isEqualTo(username);
+        assertThat(claims.getSubject()).isEqualTo(ACCESS_TOKEN_SUBJECT);
+        assertThat(claims.isExpired(System.currentTimeMillis())).isFalse();
+    }
+
+    @Test
+    public void verifyAccessToken_subject_가_다르거나_위조된_토큰은_실패() throws Exception {
+        // given
+        String refreshToken = jwtService.createRefreshToken();
+        String accessToken = jwtService.createAccessToken(username);
+
+        // when, then
+        assertThat(jwtService.verifyAccessToken(refreshToken)).isEmpty();
+        assertThat(jwtService.verifyAccessToken(accessToken + "a")).isEmpty();
+        assertThat(jwtService.verifyRefreshToken(refreshToken)).isPresent();
+        assertThat(jwtService.verifyRefreshToken(accessToken)).isEmpty();
+    }
 }
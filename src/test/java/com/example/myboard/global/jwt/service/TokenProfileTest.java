@@ -0,0 +1,68 @@
+package com.example.myboard.global.jwt.service;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.example.myboard.domain.member.role.Role;
+import com.example.myboard.global.jwt.dto.TokenClaims;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenProfileTest {
+
+    private static final String SECRET = "watosyscallgatetelavosggodariwatosyscallgatetelavosggodari";
+
+    private final long now = System.currentTimeMillis();
+
+    private void assertStatelessRoundTrip(TokenProfile profile) {
+        String accessToken = profile.createAccessToken(300L, "아이디user", Role.ADMIN, now, now + 60_000);
+
+        TokenClaims claims = profile.verifyAccessToken(accessToken);
+
+        assertThat(claims.getSubject()).isEqualTo(TokenProfile.ACCESS_TOKEN_SUBJECT);
+        assertThat(claims.getMemberId()).isEqualTo(300L);
+        assertThat(claims.getRole()).isEqualTo(Role.ADMIN);
+        assertThat(claims.getUsername()).isEqualTo("아이디user");
+        assertThat(claims.getJti()).isNotNull();
+        assertThat(claims.isSelfContained()).isTrue();
+    }
+
+    @Test
+    public void 형식별_발급_검증() throws Exception {
+        assertStatelessRoundTrip(TokenProfile.legacy(SECRET));
+        assertStatelessRoundTrip(new TokenProfile(SECRET, "HS256", false, false));
+        assertStatelessRoundTrip(new TokenProfile(SECRET, "HS256", true, false));
+        assertStatelessRoundTrip(new TokenProfile(SECRET, "HS256", true, true));
+    }
+
+    @Test
+    public void compact_형식이_더_짧다() throws Exception {
+        String legacy = TokenProfile.legacy(SECRET).createAccessToken(300L, "username", Role.USER, now, now + 60_000);
+        String compact = new TokenProfile(SECRET, "HS256", true, false).createAccessToken(300L, "username", Role.USER, now, now + 60_000);
+        String binary = new TokenProfile(SECRET, "HS256", true, true).createAccessToken(300L, "username", Role.USER, now, now + 60_000);
+
+        assertThat(compact.length()).isLessThan(legacy.length());
+        assertThat(binary.length()).isLessThan(compact.length());
+    }
+
+    @Test
+    public void RefreshToken_subject_는_형식에_상관없이_같다() throws Exception {
+        TokenProfile compact = new TokenProfile(SECRET, "HS256", true, false);
+        String refreshToken = compact.createRefreshToken(now + 60_000);
+
+        assertThat(compact.verifyRefreshToken(refreshToken).getSubject()).isEqualTo(TokenProfile.REFRESH_TOKEN_SUBJECT);
+        assertThatThrownBy(() -> compact.verifyAccessToken(refreshToken)).isInstanceOf(JWTVerificationException.class);
+    }
+
+    @Test
+    public void 다른_형식의_토큰은_검증_실패() throws Exception {
+        TokenProfile legacy = TokenProfile.legacy(SECRET);
+        TokenProfile compact = new TokenProfile(SECRET, "HS256", true, true);
+
+        String compactToken = compact.createAccessToken(300L, "username", Role.USER, now, now + 60_000);
+        String legacyToken = legacy.createAccessToken("username", now + 60_000);
+
+        assertThatThrownBy(() -> legacy.verifyAccessToken(compactToken)).isInstanceOf(JWTVerificationException.class);
+        assertThatThrownBy(() -> compact.verifyAccessToken(legacyToken)).isInstanceOf(JWTVerificationException.class);
+    }
+}
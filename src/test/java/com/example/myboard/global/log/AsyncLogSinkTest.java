@@ -0,0 +1,142 @@
+package com.example.myboard.global.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncLogSinkTest {
+
+    private static class RecordingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+
+        RecordingAppender(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(event.getFormattedMessage());
+        }
+    }
+
+    private Logger logger(String name, RecordingAppender appender) {
+        Logger logger = (Logger) LoggerFactory.getLogger(name);
+        appender.setContext((LoggerContext) LoggerFactory.getILoggerFactory());
+        appender.start();
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        return logger;
+    }
+
+    @Test
+    public void 순서대로_모두_기록하고_종료시_비운다() throws Exception {
+        // given
+        RecordingAppender appender = new RecordingAppender(new CountDownLatch(0));
+        Logger logger = logger("async-sink-test-order", appender);
+
+        AsyncLogSink sink = new AsyncLogSink(true, 64, 16, AsyncLogSink.Overflow.BLOCK);
+        sink.start();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            sink.info(logger, "event {} {}", i, "x");
+        }
+        sink.shutdown();
+
+        // then
+        assertThat(appender.messages).hasSize(1000);
+        assertThat(appender.messages.get(0)).isEqualTo("event 0 x");
+        assertThat(appender.messages.get(999)).isEqualTo("event 999 x");
+        assertThat(sink.stats().getDroppedCount()).isZero();
+    }
+
+    @Test
+    public void 종료와_동시에_남긴_로그도_잃지_않는다() throws Exception {
+        // given
+        RecordingAppender appender = new RecordingAppender(new CountDownLatch(0));
+        Logger logger = logger("async-sink-test-shutdown", appender);
+
+        AsyncLogSink sink = new AsyncLogSink(true, 64, 16, AsyncLogSink.Overflow.BLOCK);
+        sink.start();
+
+        int threadCount = 4;
+        int eventsPerThread = 2000;
+        CountDownLatch started = new CountDownLatch(threadCount);
+        Thread[] producers = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            producers[t] = new Thread(() -> {
+                started.countDown();
+                for (int i = 0; i < eventsPerThread; i++) {
+                    sink.info(logger, "event {}", i);
+                }
+            });
+            producers[t].start();
+        }
+
+        // when
+        started.await();
+        sink.shutdown();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        // then
+        assertThat(appender.messages).hasSize(threadCount * eventsPerThread);
+        assertThat(sink.stats().getDroppedCount()).isZero();
+    }
+
+    @Test
+    public void 가득_차면_버리고_개수를_센다() throws Exception {
+        // given : appender 가 막혀 있어 consumer 가 진행하지 못함
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingAppender appender = new RecordingAppender(release);
+        Logger logger = logger("async-sink-test-drop", appender);
+
+        AsyncLogSink sink = new AsyncLogSink(true, 8, 4, AsyncLogSink.Overflow.DROP);
+        sink.start();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            sink.info(logger, "event {}", i);
+        }
+        long dropped = sink.stats().getDroppedCount();
+        release.countDown();
+        sink.shutdown();
+
+        // then
+        assertThat(dropped).isGreaterThan(0);
+        assertThat(appender.messages.size() + dropped).isEqualTo(100);
+    }
+
+    @Test
+    public void 꺼져_있으면_바로_기록() throws Exception {
+        // given
+        RecordingAppender appender = new RecordingAppender(new CountDownLatch(0));
+        Logger logger = logger("async-sink-test-sync", appender);
+
+        // when
+        AsyncLogSink.synchronous().info(logger, "event {}", 1);
+
+        // then
+        assertThat(appender.messages).containsExactly("event 1");
+    }
+}
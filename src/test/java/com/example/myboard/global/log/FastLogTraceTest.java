@@ -0,0 +1,49 @@
+package com.example.myboard.global.log;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FastLogTraceTest {
+
+    @Test
+    public void 깊이별_상태를_재사용() throws Exception {
+        // given
+        FastLogTrace trace = new FastLogTrace(1.0, AsyncLogSink.synchronous());
+
+        // when
+        TraceStatus outer = trace.begin("outer");
+        TraceStatus inner = trace.begin("inner");
+
+        // then
+        assertThat(outer.getTraceId().getLevel()).isEqualTo(0);
+        assertThat(inner.getTraceId().getLevel()).isEqualTo(1);
+        assertThat(inner.getTraceId().getId()).isEqualTo(outer.getTraceId().getId());
+        assertThat(inner.getMessage()).isEqualTo("inner");
+
+        trace.end(inner);
+        trace.exception(outer, new IllegalStateException());
+
+        TraceStatus next = trace.begin("next");
+        assertThat(next).isSameAs(outer);
+        assertThat(next.getTraceId().getLevel()).isEqualTo(0);
+        trace.end(next);
+    }
+
+    @Test
+    public void 샘플링되지_않은_요청도_깊이는_맞춘다() throws Exception {
+        // given
+        FastLogTrace trace = new FastLogTrace(0.0, AsyncLogSink.synchronous());
+
+        // when
+        TraceStatus outer = trace.begin("outer");
+        TraceStatus inner = trace.begin("inner");
+        trace.end(inner);
+        trace.end(outer);
+
+        // then
+        assertThat(inner.getTraceId().getLevel()).isEqualTo(1);
+        assertThat(inner.getTraceId().getId()).isNull();
+        assertThat(trace.begin("next").getTraceId().getLevel()).isEqualTo(0);
+    }
+}
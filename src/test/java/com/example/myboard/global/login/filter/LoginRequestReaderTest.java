@@ -0,0 +1,65 @@
+package com.example.myboard.global.login.filter;
+
+import com.example.myboard.global.login.dto.LoginCredentials;
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginRequestReaderTest {
+
+    private final LoginRequestReader reader = new LoginRequestReader(new JsonFactory(), 256);
+
+    private InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void 아이디_비밀번호_읽기() throws Exception {
+        // when
+        LoginCredentials credentials = reader.read(body("{\"username\":\"user1\",\"extra\":{\"a\":[1,2]},\"password\":\"비밀번호1234\"}"));
+
+        // then
+        assertThat(credentials.getUsername()).isEqualTo("user1");
+        assertThat(credentials.getPassword()).isEqualTo("비밀번호1234");
+    }
+
+    @Test
+    public void 문자열이_아닌_값은_무시() throws Exception {
+        // when
+        LoginCredentials credentials = reader.read(body("{\"username\":123,\"password\":null}"));
+
+        // then
+        assertThat(credentials.getUsername()).isNull();
+        assertThat(credentials.getPassword()).isNull();
+    }
+
+    @Test
+    public void 잘못된_JSON_이면_실패() throws Exception {
+        assertThatThrownBy(() -> reader.read(body("{\"username\":\"user1\",")))
+                .isInstanceOf(AuthenticationServiceException.class);
+        assertThatThrownBy(() -> reader.read(body("[\"user1\"]")))
+                .isInstanceOf(AuthenticationServiceException.class);
+        assertThatThrownBy(() -> reader.read(body("{\"username\":\"user1\"} {}")))
+                .isInstanceOf(AuthenticationServiceException.class);
+    }
+
+    @Test
+    public void 최대_크기를_넘으면_실패() throws Exception {
+        // given
+        StringBuilder password = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            password.append('a');
+        }
+
+        // when, then
+        assertThatThrownBy(() -> reader.read(body("{\"username\":\"user1\",\"password\":\"" + password + "\"}")))
+                .isInstanceOf(AuthenticationServiceException.class);
+    }
+}
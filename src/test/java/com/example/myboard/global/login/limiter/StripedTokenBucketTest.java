@@ -0,0 +1,60 @@
+package com.example.myboard.global.login.limiter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedTokenBucketTest {
+
+    @Test
+    public void 한도까지만_허용() throws Exception {
+        // given
+        StripedTokenBucket bucket = new StripedTokenBucket(1024, 3, 0);
+
+        // when, then
+        assertThat(bucket.tryAcquire("username")).isTrue();
+        assertThat(bucket.tryAcquire("username")).isTrue();
+        assertThat(bucket.tryAcquire("username")).isTrue();
+        assertThat(bucket.tryAcquire("username")).isFalse();
+    }
+
+    @Test
+    public void 시간이_지나면_다시_충전() throws Exception {
+        // given : 분당 60000개 -> 1ms 에 1개
+        StripedTokenBucket bucket = new StripedTokenBucket(1024, 1, 60_000);
+        assertThat(bucket.tryAcquire("username")).isTrue();
+
+        // when
+        Thread.sleep(20);
+
+        // then
+        assertThat(bucket.tryAcquire("username")).isTrue();
+    }
+
+    @Test
+    public void 동시에_요청해도_한도를_넘지_않음() throws Exception {
+        // given
+        StripedTokenBucket bucket = new StripedTokenBucket(1024, 100, 0);
+        AtomicInteger acquired = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> {
+                if (bucket.tryAcquire("username")) {
+                    acquired.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(acquired.get()).isEqualTo(100);
+    }
+}
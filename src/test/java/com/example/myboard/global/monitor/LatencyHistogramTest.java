@@ -0,0 +1,51 @@
+package com.example.myboard.global.monitor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyHistogramTest {
+
+    @Test
+    public void 칸의_최댓값은_상대오차_안에_있다() throws Exception {
+        for (long value = 1; value < (1L << 40); value = value * 3 / 2 + 1) {
+            long highest = LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(value));
+
+            assertThat(highest).isGreaterThanOrEqualTo(value);
+            assertThat((double) (highest - value) / value).isLessThanOrEqualTo(0.125);
+        }
+    }
+
+    @Test
+    public void 범위를_넘는_값은_마지막_칸() throws Exception {
+        assertThat(LatencyHistogram.indexOf(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKET_COUNT - 1);
+        assertThat(LatencyHistogram.indexOf(-1)).isEqualTo(0);
+    }
+
+    @Test
+    public void 백분위() throws Exception {
+        // given : 1ms 990개, 100ms 9개, 1s 1개
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 990; i++) {
+            histogram.record(1_000_000L);
+        }
+        for (int i = 0; i < 9; i++) {
+            histogram.record(100_000_000L);
+        }
+        histogram.record(1_000_000_000L);
+
+        // when
+        long[] percentiles = histogram.percentiles(0.5, 0.99, 0.999, 1.0);
+
+        // then
+        assertThat(percentiles[0]).isBetween(1_000_000L, 1_125_000L);
+        assertThat(percentiles[1]).isBetween(1_000_000L, 1_125_000L);
+        assertThat(percentiles[2]).isBetween(100_000_000L, 112_500_000L);
+        assertThat(percentiles[3]).isBetween(1_000_000_000L, 1_125_000_000L);
+    }
+
+    @Test
+    public void 기록이_없으면_0() throws Exception {
+        assertThat(new LatencyHistogram().percentiles(0.5, 0.99)).containsExactly(0L, 0L);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.myboard.global.monitor.sql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlNormalizerTest {
+
+    private final SqlNormalizer sqlNormalizer = new SqlNormalizer(10);
+
+    @Test
+    public void 리터럴을_지운다() throws Exception {
+        assertThat(sqlNormalizer.normalize("SELECT * FROM post WHERE title='it''s' AND post_id=10"))
+                .isEqualTo("select * from post where title=? and post_id=?");
+        assertThat(sqlNormalizer.normalize("select * from post where post_id = 1.5"))
+                .isEqualTo("select * from post where post_id = ?");
+    }
+
+    @Test
+    public void 식별자_안의_숫자는_남긴다() throws Exception {
+        assertThat(sqlNormalizer.normalize("select comment0_.comment_id as comment_1_2_ from comment comment0_"))
+                .isEqualTo("select comment0_.comment_id as comment_1_2_ from comment comment0_");
+    }
+
+    @Test
+    public void IN_목록과_공백_주석을_합친다() throws Exception {
+        String sql = "/* load Comment */ select *\n    from comment\n    where parent_id in (?, ?,?)";
+
+        assertThat(sqlNormalizer.normalize(sql)).isEqualTo("select * from comment where parent_id in (?)");
+        assertThat(sqlNormalizer.normalize("select * from comment where parent_id in (1, 2, 3, 4)"))
+                .isEqualTo("select * from comment where parent_id in (?)");
+    }
+
+    @Test
+    public void 모양이_같으면_같은_문자열() throws Exception {
+        assertThat(sqlNormalizer.normalize("select * from member where member_id=1"))
+                .isEqualTo(sqlNormalizer.normalize("select * from member where member_id=2"));
+    }
+}
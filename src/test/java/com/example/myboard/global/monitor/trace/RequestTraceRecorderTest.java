@@ -0,0 +1,174 @@
+package com.example.myboard.global.monitor.trace;
+
+import com.example.myboard.global.log.AsyncLogSink;
+import com.example.myboard.global.monitor.dto.SlowRequestDto;
+import com.example.myboard.global.monitor.sql.QueryBudgetExceededException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestTraceRecorderTest {
+
+    private final SlowRequestStore store = new SlowRequestStore(2);
+
+    private RequestTraceRecorder recorder(long thresholdMillis, int maxSpans) {
+        return new RequestTraceRecorder(true, thresholdMillis, maxSpans, 3, RequestTraceRecorder.BudgetMode.FAIL, store, AsyncLogSink.synchronous());
+    }
+
+    private void call(RequestTraceRecorder recorder) {
+        recorder.enter("PostController.find(..)", false);
+        recorder.enter("PostServiceImpl.find(..)", false);
+        recorder.enter("PostRepository.findById(..)", true);
+        recorder.recordSql("select * from post where post_id=?", 1_000_000);
+        recorder.exit(false);
+        recorder.exit(false);
+        recorder.exit(false);
+    }
+
+    @Test
+    public void 빠른_요청은_버린다() throws Exception {
+        // given
+        RequestTraceRecorder recorder = recorder(10_000, 256);
+
+        // when
+        recorder.begin("GET", "/post/1");
+        call(recorder);
+        boolean captured = recorder.end(200, null);
+
+        // then
+        assertThat(captured).isFalse();
+        assertThat(store.findRecent()).isEmpty();
+    }
+
+    @Test
+    public void 느린_요청은_호출_트리와_SQL_정보를_남긴다() throws Exception {
+        // given
+        RequestTraceRecorder recorder = recorder(0, 256);
+
+        // when
+        recorder.begin("GET", "/post/1");
+        call(recorder);
+        recorder.end(200, null);
+
+        // then
+        SlowRequestDto slowRequest = store.findRecent().get(0);
+        assertThat(slowRequest.getUri()).isEqualTo("/post/1");
+        assertThat(slowRequest.getSqlCount()).isEqualTo(1);
+        assertThat(slowRequest.getSpans()).hasSize(3);
+        assertThat(slowRequest.getSpans().get(2).getDepth()).isEqualTo(2);
+        assertThat(slowRequest.getSpans().get(2).getName()).isEqualTo("PostRepository.findById(..)");
+    }
+
+    @Test
+    public void 예외로_끝난_요청은_빨라도_남긴다() throws Exception {
+        // given
+        RequestTraceRecorder recorder = recorder(10_000, 256);
+
+        // when
+        recorder.begin("POST", "/post");
+        recorder.enter("PostController.save(..)", false);
+        recorder.exit(true);
+        recorder.end(200, new IllegalStateException("fail"));
+
+        // then
+        SlowRequestDto slowRequest = store.findRecent().get(0);
+        assertThat(slowRequest.getError()).contains("fail");
+        assertThat(slowRequest.getSpans().get(0).isError()).isTrue();
+    }
+
+    @Test
+    public void 최대_span_수를_넘으면_개수만_센다() throws Exception {
+        // given
+        RequestTraceRecorder recorder = recorder(0, 2);
+
+        // when
+        recorder.begin("GET", "/post/1");
+        call(recorder);
+        recorder.end(200, null);
+
+        // then
+        SlowRequestDto slowRequest = store.findRecent().get(0);
+        assertThat(slowRequest.getSpans()).hasSize(2);
+        assertThat(slowRequest.getDroppedSpans()).isEqualTo(1);
+    }
+
+    @Test
+    public void 최대_span_수를_넘은_Repository_호출도_시간은_센다() throws Exception {
+        // given
+        RequestTraceRecorder recorder = recorder(0, 1);
+
+        // when : 두 Repository 호출 모두 최대 span 수를 넘어 기록되지 않음
+        recorder.begin("GET", "/post/1");
+        recorder.enter("PostController.find(..)", false);
+        recorder.enter("CommentRepository.findById(..)", true);
+        recorder.exit(false);
+        recorder.enter("CommentRepository.findById(..)", true);
+        Thread.sleep(20);
+        recorder.exit(false);
+        recorder.exit(false);
+        recorder.end(200, null);
+
+        // then
+        SlowRequestDto slowRequest = store.findRecent().get(0);
+        assertThat(slowRequest.getDroppedSpans()).isEqualTo(2);
+        assertThat(slowRequest.getRepositoryMillis()).isGreaterThanOrEqualTo(20);
+    }
+
+    @Test
+    public void 요청_밖의_호출은_기록하지_않는다() throws Exception {
+        // given
+        RequestTraceRecorder recorder = recorder(0, 256);
+
+        // when
+        call(recorder);
+
+        // then
+        assertThat(recorder.current()).isNull();
+        assertThat(recorder.end(200, null)).isFalse();
+    }
+
+    @Test
+    public void 같은_SQL_반복과_span_별_SQL_수() throws Exception {
+        // given
+        RequestTraceRecorder recorder = recorder(0, 256);
+
+        // when
+        recorder.begin("GET", "/post/1");
+        recorder.enter("PostServiceImpl.find(..)", false);
+        for (int i = 0; i < 5; i++) {
+            recorder.enter("CommentRepository.findById(..)", true);
+            recorder.recordSql("select * from comment where comment_id=?", 1000);
+            recorder.exit(false);
+        }
+        RequestTrace trace = recorder.current();
+        recorder.exit(false);
+
+        // then
+        assertThat(trace.getRepeatedSqls()).hasSize(1);
+        assertThat(trace.getRepeatedSqls().get(0).getSpanName()).isEqualTo("CommentRepository.findById(..)");
+        assertThat(trace.countOf("select * from comment where comment_id=?")).isEqualTo(5);
+
+        recorder.end(200, null);
+        SlowRequestDto slowRequest = store.findRecent().get(0);
+        assertThat(slowRequest.getSpans().get(0).getSqlCount()).isEqualTo(5);
+        assertThat(slowRequest.getSpans().get(1).getSqlCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void QueryBudget_을_넘으면_FAIL_모드에서_예외() throws Exception {
+        // given
+        RequestTraceRecorder recorder = recorder(10_000, 256);
+        recorder.begin("GET", "/post/1");
+        recorder.setQueryBudget(1, "PostController#find");
+
+        // when
+        call(recorder);
+        recorder.checkQueryBudget();
+        call(recorder);
+
+        // then
+        assertThatThrownBy(recorder::checkQueryBudget).isInstanceOf(QueryBudgetExceededException.class);
+        recorder.end(200, null);
+    }
+}
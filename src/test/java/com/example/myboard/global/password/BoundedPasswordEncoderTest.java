@@ -0,0 +1,119 @@
+package com.example.myboard.global.password;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoundedPasswordEncoderTest {
+
+    private static final int STRENGTH = 4;
+
+    private BoundedPasswordEncoder passwordEncoder;
+
+    private BoundedPasswordEncoder create(PasswordEncoder delegate, int threads, int queueCapacity) {
+        passwordEncoder = new BoundedPasswordEncoder(delegate, STRENGTH, threads, queueCapacity);
+        return passwordEncoder;
+    }
+
+    private PasswordEncoder bcrypt(int strength) {
+        return new DelegatingPasswordEncoder("bcrypt", Collections.singletonMap("bcrypt", new BCryptPasswordEncoder(strength)));
+    }
+
+    @AfterEach
+    public void shutdown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    public void 전용_스레드에서_해싱하고_일치여부_확인() throws Exception {
+        // given
+        BoundedPasswordEncoder encoder = create(bcrypt(STRENGTH), 2, 10);
+
+        // when
+        String encoded = encoder.encode("password");
+
+        // then
+        assertThat(encoded).startsWith("{bcrypt}");
+        assertThat(encoder.matches("password", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+        assertThat(encoder.stats().getHashCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void work_factor_가_다르면_재해싱_대상() throws Exception {
+        // given
+        BoundedPasswordEncoder encoder = create(bcrypt(STRENGTH), 1, 10);
+
+        // when, then
+        assertThat(encoder.upgradeEncoding(encoder.encode("password"))).isFalse();
+        assertThat(encoder.upgradeEncoding(bcrypt(5).encode("password"))).isTrue();
+    }
+
+    @Test
+    public void 대기열이_가득차면_바로_거절() throws Exception {
+        // given : 스레드 1개를 막아두고 대기열 1개를 채운다.
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return true;
+            }
+        };
+        BoundedPasswordEncoder encoder = create(blocking, 1, 1);
+        new Thread(() -> encoder.encode("1")).start();
+        new Thread(() -> encoder.encode("2")).start();
+        Thread.sleep(200);
+
+        // when, then
+        assertThrows(AuthenticationServiceException.class, () -> encoder.encode("3"));
+        assertThat(encoder.stats().getRejectedCount()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    public void 시간_안에_끝나지_않으면_취소하고_거절() throws Exception {
+        // given : 해싱이 끝나지 않는 encoder, 100ms 만 기다린다.
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return true;
+            }
+        };
+        passwordEncoder = new BoundedPasswordEncoder(blocking, STRENGTH, 1, 10, 100);
+
+        // when, then
+        assertThrows(AuthenticationServiceException.class, () -> passwordEncoder.encode("1"));
+        assertThat(passwordEncoder.stats().getTimedOutCount()).isEqualTo(1);
+        release.countDown();
+    }
+}
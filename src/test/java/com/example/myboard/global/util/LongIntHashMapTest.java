@@ -0,0 +1,44 @@
+package com.example.myboard.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongIntHashMapTest {
+
+    @Test
+    public void 넣은_값을_조회하고_없는_키는_missingValue() throws Exception {
+        // given
+        LongIntHashMap map = new LongIntHashMap(4, -1);
+
+        // when
+        map.put(10L, 1);
+        map.put(Long.MIN_VALUE, 2);
+        int previous = map.put(10L, 3);
+
+        // then
+        assertThat(previous).isEqualTo(1);
+        assertThat(map.get(10L)).isEqualTo(3);
+        assertThat(map.get(Long.MIN_VALUE)).isEqualTo(2);
+        assertThat(map.get(11L)).isEqualTo(-1);
+        assertThat(map.containsKey(11L)).isFalse();
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void 예상크기를_넘겨도_늘어나면서_모든_키를_유지() throws Exception {
+        // given
+        LongIntHashMap map = new LongIntHashMap(1, -1);
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            map.put(i * 7L, i);
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(100_000);
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(map.get(i * 7L)).isEqualTo(i);
+        }
+    }
+}